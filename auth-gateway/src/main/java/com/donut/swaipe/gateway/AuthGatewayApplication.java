@@ -0,0 +1,38 @@
+package com.donut.swaipe.gateway;
+
+import com.donut.swaipe.config.JwtConfig;
+import com.donut.swaipe.domain.user.service.RefreshTokenCodec;
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedTokenCache;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 토큰 검증과 재발급 경로만 논블로킹 스택(WebFlux, 리액티브 Redis)으로 처리하는 인증 게이트웨이입니다.
+ *
+ * <p>토큰 발급/검증, 리프레시 토큰 레코드 형식, 토큰 버전, 저장소 서킷 브레이커는 서블릿 앱의 클래스를 그대로
+ * 가져와 사용하므로 두 런타임이 같은 Redis 위에서 같은 토큰을 주고받을 수 있습니다. 컴포넌트 스캔은 게이트웨이
+ * 패키지로 한정되어 서블릿 앱의 컨트롤러나 JPA 구성은 올라오지 않습니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootApplication
+@Import({
+		JwtConfig.class,
+		JwtProvider.class,
+		VerifiedTokenCache.class,
+		TokenVersionRegistry.class,
+		RefreshTokenCodec.class,
+		TokenStoreCircuitBreaker.class
+})
+public class AuthGatewayApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(AuthGatewayApplication.class, args);
+	}
+}
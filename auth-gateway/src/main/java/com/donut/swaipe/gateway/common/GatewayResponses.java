@@ -0,0 +1,96 @@
+package com.donut.swaipe.gateway.common;
+
+import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.MessageCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이의 {@link ApiResponse} 응답을 쓰는 컴포넌트입니다.
+ *
+ * <p>서블릿 앱의 {@code ErrorResponses}와 같이 모든 {@link MessageCode}의 오류 본문을 시작 시점에 직렬화해
+ * 두고, 요청마다 같은 바이트를 응답 버퍼로 감싸 씁니다. 두 런타임의 응답 본문은 같은 {@link ApiResponse}
+ * 형식을 따릅니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class GatewayResponses {
+
+	private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON,
+			StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper;
+	private final Map<MessageCode, byte[]> bodies = new EnumMap<>(MessageCode.class);
+
+	public GatewayResponses(ObjectMapper objectMapper) throws JsonProcessingException {
+		this.objectMapper = objectMapper;
+		for (MessageCode messageCode : MessageCode.values()) {
+			bodies.put(messageCode, objectMapper.writeValueAsBytes(ApiResponse.error(messageCode)));
+		}
+	}
+
+	/**
+	 * 미리 직렬화된 오류 응답을 씁니다.
+	 *
+	 * @param res         HTTP 응답
+	 * @param status      HTTP 상태 코드
+	 * @param messageCode 응답 메시지 코드
+	 * @return 응답 완료 신호
+	 */
+	public Mono<Void> error(ServerHttpResponse res, HttpStatus status, MessageCode messageCode) {
+		return write(res, status, bodies.get(messageCode));
+	}
+
+	/**
+	 * 성공 응답을 직렬화하여 씁니다.
+	 *
+	 * @param res         HTTP 응답
+	 * @param status      HTTP 상태 코드
+	 * @param messageCode 응답 메시지 코드
+	 * @param data        응답 데이터
+	 * @return 응답 완료 신호
+	 */
+	public Mono<Void> success(ServerHttpResponse res, HttpStatus status, MessageCode messageCode,
+			Object data) {
+		try {
+			return write(res, status,
+					objectMapper.writeValueAsBytes(ApiResponse.success(messageCode, data)));
+		} catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+	}
+
+	/**
+	 * 미리 직렬화된 오류 응답 본문으로 {@link ResponseEntity}를 만듭니다.
+	 *
+	 * @param status      HTTP 상태 코드
+	 * @param messageCode 응답 메시지 코드
+	 * @return 오류 응답
+	 */
+	public ResponseEntity<byte[]> entity(HttpStatus status, MessageCode messageCode) {
+		return ResponseEntity.status(status)
+				.contentType(JSON_UTF8)
+				.body(bodies.get(messageCode));
+	}
+
+	private Mono<Void> write(ServerHttpResponse res, HttpStatus status, byte[] body) {
+		res.setStatusCode(status);
+		res.getHeaders().setContentType(JSON_UTF8);
+		res.getHeaders().setContentLength(body.length);
+		DataBuffer buffer = res.bufferFactory().wrap(body);
+		return res.writeWith(Mono.just(buffer));
+	}
+}
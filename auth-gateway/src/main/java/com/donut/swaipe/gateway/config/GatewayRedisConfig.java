@@ -0,0 +1,83 @@
+package com.donut.swaipe.gateway.config;
+
+import com.donut.swaipe.config.RedisClientProperties;
+import com.donut.swaipe.config.RedisConfig;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 게이트웨이의 Redis 클라이언트 설정입니다.
+ *
+ * <p>요청 경로의 명령은 자동 구성된 {@code ReactiveStringRedisTemplate}으로 보내며, 모든 요청이 하나의
+ * 다중화 연결을 공유합니다. 연결 풀을 쓰지 않으므로 Redis가 느려져도 요청이 연결을 기다리며 스레드를 붙잡지
+ * 않습니다. 타임아웃 옵션은 서블릿 앱과 같은 {@code redis.client} 설정을 사용합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@EnableConfigurationProperties(RedisClientProperties.class)
+public class GatewayRedisConfig {
+
+	@Value("${spring.data.redis.host}")
+	private String host;
+
+	@Value("${spring.data.redis.port}")
+	private int port;
+
+	@Bean(destroyMethod = "shutdown")
+	public ClientResources lettuceClientResources(RedisClientProperties properties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		DefaultClientResources.Builder builder = DefaultClientResources.builder();
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			builder.commandLatencyRecorder(new MicrometerCommandLatencyRecorder(registry,
+					MicrometerOptions.builder()
+							.histogram(properties.isLatencyHistogram())
+							.build()));
+		}
+		return builder.build();
+	}
+
+	@Bean
+	public LettuceConnectionFactory redisConnectionFactory(RedisClientProperties properties,
+			ClientResources clientResources) {
+		LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+				.clientResources(clientResources)
+				.clientOptions(RedisConfig.clientOptions(properties))
+				.commandTimeout(properties.getCommandTimeout())
+				.shutdownTimeout(properties.getShutdownTimeout())
+				.build();
+
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(host, port), clientConfiguration);
+		factory.setShareNativeConnection(true);
+		return factory;
+	}
+
+	/**
+	 * 토큰 버전 변경 채널을 구독하는 리스너 컨테이너입니다. 구독은 컨테이너의 전용 스레드에서 처리되므로
+	 * 이벤트 루프를 막지 않습니다.
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+			RedisConnectionFactory redisConnectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		return container;
+	}
+}
@@ -0,0 +1,48 @@
+package com.donut.swaipe.gateway.controller;
+
+import com.donut.swaipe.domain.auth.dto.TokenDto;
+import com.donut.swaipe.domain.auth.dto.TokenRequestDto;
+import com.donut.swaipe.domain.auth.dto.VerifiedPrincipalDto;
+import com.donut.swaipe.gateway.filter.ReactiveJwtAuthorizationFilter;
+import com.donut.swaipe.gateway.service.ReactiveAuthService;
+import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이가 처리하는 토큰 검증과 재발급 경로입니다.
+ *
+ * <p>{@code GET /auth/verify}는 인가 필터를 통과한 토큰의 인가 주체를 돌려주며, 앞단 프록시의 인증
+ * 서브 요청(auth_request 등)으로 사용할 수 있습니다. 만료된 토큰이면 필터가 새 토큰을 발급해 응답합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController
+@RequiredArgsConstructor
+public class AuthGatewayController {
+
+	private final ReactiveAuthService authService;
+
+	@GetMapping("/auth/verify")
+	public ApiResponse<VerifiedPrincipalDto> verify(
+			@RequestAttribute(ReactiveJwtAuthorizationFilter.VERIFIED_TOKEN_ATTRIBUTE)
+			VerifiedToken verifiedToken) {
+		return ApiResponse.success(MessageCode.SUCCESS, new VerifiedPrincipalDto(
+				verifiedToken.getSubject(), verifiedToken.getRole(), verifiedToken.getUserId(),
+				verifiedToken.getNickname()));
+	}
+
+	@PostMapping("/users/refresh")
+	public Mono<ApiResponse<TokenDto>> refresh(@RequestBody TokenRequestDto requestDto) {
+		return authService.refresh(requestDto);
+	}
+}
@@ -0,0 +1,69 @@
+package com.donut.swaipe.gateway.exception;
+
+import com.donut.swaipe.gateway.common.GatewayResponses;
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class GatewayExceptionHandler {
+
+	private final GatewayResponses responses;
+
+	/**
+	 * 유효하지 않은 토큰 사용 시 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 유효하지 않은 토큰으로 인한 예외
+	 * @return 401 UNAUTHORIZED 응답
+	 */
+	@ExceptionHandler(InvalidTokenException.class)
+	public ResponseEntity<byte[]> handleInvalidTokenException(InvalidTokenException e) {
+		return responses.entity(HttpStatus.UNAUTHORIZED, MessageCode.INVALID_TOKEN);
+	}
+
+	/**
+	 * 토큰 저장소를 사용할 수 없을 때 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 저장소 회로가 열려 있거나 호출에 실패했을 때 발생하는 예외
+	 * @return 503 SERVICE_UNAVAILABLE 응답
+	 */
+	@ExceptionHandler(TokenStoreUnavailableException.class)
+	public ResponseEntity<byte[]> handleTokenStoreUnavailableException(
+			TokenStoreUnavailableException e) {
+		return responses.entity(HttpStatus.SERVICE_UNAVAILABLE,
+				MessageCode.TOKEN_STORE_UNAVAILABLE);
+	}
+
+	/**
+	 * 요청 본문을 읽을 수 없을 때 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 요청 본문 변환 실패로 인한 예외
+	 * @return 400 BAD_REQUEST 응답
+	 */
+	@ExceptionHandler(ServerWebInputException.class)
+	public ResponseEntity<byte[]> handleInputException(ServerWebInputException e) {
+		return responses.entity(HttpStatus.BAD_REQUEST, MessageCode.INVALID_INPUT);
+	}
+
+	/**
+	 * 기타 예상하지 못한 예외를 처리합니다.
+	 *
+	 * @param e 예상치 못한 예외
+	 * @return 500 INTERNAL_SERVER_ERROR 응답
+	 */
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<byte[]> handleException(Exception e) {
+		log.error("Unexpected error occurred: ", e);
+		return responses.entity(HttpStatus.INTERNAL_SERVER_ERROR, MessageCode.FAILED);
+	}
+}
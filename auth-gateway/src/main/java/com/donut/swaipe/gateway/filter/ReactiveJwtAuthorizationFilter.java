@@ -0,0 +1,180 @@
+package com.donut.swaipe.gateway.filter;
+
+import static com.donut.swaipe.global.common.MessageCode.AUTHORIZED_ERROR;
+import static com.donut.swaipe.global.common.MessageCode.GENERATE_TOKEN;
+import static com.donut.swaipe.global.common.MessageCode.TOKEN_STORE_UNAVAILABLE;
+
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
+import com.donut.swaipe.gateway.common.GatewayResponses;
+import com.donut.swaipe.gateway.service.ReactiveTokenReissueService;
+import com.donut.swaipe.gateway.service.ReactiveTokenStore;
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import com.donut.swaipe.global.security.route.PublicRoute;
+import com.donut.swaipe.global.security.route.RouteMatcher;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱의 {@code JwtAuthorizationFilter}를 {@link WebFilter}로 옮긴 인가 필터입니다.
+ *
+ * <p>판단 순서는 서블릿 필터와 같습니다. 서명과 토큰 버전은 메모리에서 확인하고, 버전 상태가 동기화되어
+ * 있으면 유효한 액세스 토큰은 Redis를 거치지 않고 통과시킵니다. 그 외에는 리프레시 토큰을 리액티브 클라이언트로
+ * 조회하고, 만료된 액세스 토큰이면 새 토큰을 발급해 응답합니다. Redis 응답을 기다리는 동안 이벤트 루프
+ * 스레드는 다른 요청을 처리합니다.</p>
+ *
+ * <p>통과한 요청의 검증된 토큰은 {@value #VERIFIED_TOKEN_ATTRIBUTE} 속성에 담깁니다. 저장소 저하 모드에서
+ * 재발급 정책이 QUEUE여도 게이트웨이는 교체를 미루지 않고 503을 응답합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveJwtAuthorizationFilter implements WebFilter, Ordered {
+
+	public static final String VERIFIED_TOKEN_ATTRIBUTE = "swaipe.verifiedToken";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final RouteMatcher PUBLIC_ROUTES = RouteMatcher.compile(List.of(
+			PublicRoute.of("/users/refresh", RequestMethod.POST),
+			PublicRoute.of("/actuator/**", RequestMethod.GET)
+	));
+
+	private final JwtProvider jwtProvider;
+	private final TokenVersionRegistry tokenVersionRegistry;
+	private final ReactiveTokenStore tokenStore;
+	private final ReactiveTokenReissueService tokenReissueService;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final GatewayResponses responses;
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest req = exchange.getRequest();
+		if (PUBLIC_ROUTES.matches(req.getMethod().name(), req.getPath().value(),
+				req.getPath().contextPath().value().length())) {
+			log.info(LogEvents.PERMIT_ALL, "Permitting request to: {}", req.getPath());
+			return chain.filter(exchange);
+		}
+
+		return Mono.defer(() -> processTokenAuthentication(exchange, chain))
+				.onErrorResume(e -> handleError(exchange, e));
+	}
+
+	/**
+	 * 토큰 기반 인증 처리를 수행합니다.
+	 *
+	 * @param exchange 현재 요청/응답
+	 * @param chain    필터 체인
+	 */
+	private Mono<Void> processTokenAuthentication(ServerWebExchange exchange,
+			WebFilterChain chain) {
+		String token = resolveToken(exchange.getRequest());
+		if (!StringUtils.hasText(token)) {
+			return Mono.error(InvalidTokenException.INSTANCE);
+		}
+
+		VerifiedToken verifiedToken = jwtProvider.verify(token);
+		if (verifiedToken.isInvalid() || tokenVersionRegistry.isRevoked(verifiedToken)) {
+			return Mono.error(InvalidTokenException.INSTANCE);
+		}
+
+		if (verifiedToken.isValid() && tokenVersionRegistry.isSynced()) {
+			return proceed(exchange, chain, verifiedToken);
+		}
+
+		String username = verifiedToken.getSubject();
+		return tokenStore.getStoredRefreshToken(username)
+				.switchIfEmpty(Mono.error(InvalidTokenException.INSTANCE))
+				.flatMap(refreshToken -> {
+					if (verifiedToken.isValid()) {
+						log.info(LogEvents.TOKEN_VALIDATED, "액세스 토큰 검증 성공");
+						return proceed(exchange, chain, verifiedToken);
+					}
+					log.info(LogEvents.TOKEN_REISSUED, "액세스 토큰 만료. 리프레시 토큰으로 자동 재발급");
+					return tokenReissueService.reissue(token, verifiedToken, refreshToken)
+							.flatMap(newTokens -> responses.success(exchange.getResponse(),
+									HttpStatus.OK, GENERATE_TOKEN, newTokens));
+				})
+				.onErrorResume(TokenStoreUnavailableException.class,
+						e -> handleDegraded(exchange, chain, verifiedToken));
+	}
+
+	/**
+	 * HTTP 요청 헤더에서 JWT 토큰을 추출합니다.
+	 *
+	 * @param request HTTP 요청
+	 * @return 추출된 JWT 토큰, 토큰이 없거나 유효하지 않은 형식인 경우 null
+	 */
+	private String resolveToken(ServerHttpRequest request) {
+		String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+			return bearerToken.substring(BEARER_PREFIX.length());
+		}
+		return null;
+	}
+
+	/**
+	 * 토큰 저장소를 사용할 수 없을 때의 처리를 수행합니다. 서명이 올바르고 만료되지 않은 액세스 토큰은 저하
+	 * 모드의 최대 시간 동안 저장소 확인 없이 받아들이고, 그 외에는 503을 응답합니다.
+	 */
+	private Mono<Void> handleDegraded(ServerWebExchange exchange, WebFilterChain chain,
+			VerifiedToken verifiedToken) {
+		if (verifiedToken.isValid() && tokenStoreCircuitBreaker.acceptDegraded()) {
+			log.warn("토큰 저장소 저하 모드: 저장소 확인 없이 액세스 토큰 허용");
+			return proceed(exchange, chain, verifiedToken);
+		}
+		return responses.error(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE,
+				TOKEN_STORE_UNAVAILABLE);
+	}
+
+	private Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain,
+			VerifiedToken verifiedToken) {
+		exchange.getAttributes().put(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+		return chain.filter(exchange);
+	}
+
+	/**
+	 * 인가 처리 중 발생한 예외를 응답으로 바꿉니다. 응답이 이미 시작된 경우에는 예외를 그대로 전달합니다.
+	 */
+	private Mono<Void> handleError(ServerWebExchange exchange, Throwable e) {
+		if (exchange.getResponse().isCommitted()) {
+			return Mono.error(e);
+		}
+		if (e instanceof InvalidTokenException invalidTokenException) {
+			log.error("토큰 검증 실패: {}", e.getMessage());
+			return responses.error(exchange.getResponse(), HttpStatus.UNAUTHORIZED,
+					invalidTokenException.getMessageCode());
+		}
+		if (e instanceof TokenStoreUnavailableException tokenStoreUnavailableException) {
+			log.error("토큰 저장소 사용 불가: {}", e.getMessage());
+			return responses.error(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE,
+					tokenStoreUnavailableException.getMessageCode());
+		}
+		log.error("JWT 인증 처리 중 오류 발생", e);
+		return responses.error(exchange.getResponse(), HttpStatus.INTERNAL_SERVER_ERROR,
+				AUTHORIZED_ERROR);
+	}
+}
@@ -0,0 +1,61 @@
+package com.donut.swaipe.gateway.service;
+
+import com.donut.swaipe.domain.auth.dto.TokenDto;
+import com.donut.swaipe.domain.auth.dto.TokenRequestDto;
+import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이의 토큰 재발급 요청을 처리하는 서비스입니다. 서블릿 앱의 {@code AuthService#refresh}와 같은
+ * 규칙으로 동작합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+
+	private final JwtProvider jwtProvider;
+	private final ReactiveTokenStore tokenStore;
+	private final ReactiveTokenReissueService tokenReissueService;
+	private final TokenVersionRegistry tokenVersionRegistry;
+
+	/**
+	 * 토큰을 재발급합니다.
+	 *
+	 * @param tokenRequestDto 재발급 요청 DTO
+	 * @return 새로운 액세스 토큰이 포함된 응답, 토큰이 유효하지 않은 경우 {@link InvalidTokenException}으로
+	 * 끝남
+	 */
+	public Mono<ApiResponse<TokenDto>> refresh(TokenRequestDto tokenRequestDto) {
+		String token = tokenRequestDto.getToken();
+		VerifiedToken accessToken = jwtProvider.verify(token);
+		if (accessToken.isInvalid() || tokenVersionRegistry.isRevoked(accessToken)) {
+			return Mono.error(InvalidTokenException.INSTANCE);
+		}
+		String username = accessToken.getSubject();
+
+		return tokenStore.getStoredRefreshToken(username)
+				.switchIfEmpty(Mono.error(InvalidTokenException.INSTANCE))
+				.flatMap(refreshToken -> tokenReissueService.reissue(token, accessToken, refreshToken))
+				.map(newTokens -> ApiResponse.success(MessageCode.REGENERATE_TOKEN, newTokens))
+				.onErrorMap(e -> !(e instanceof TokenStoreUnavailableException), e -> {
+					log.error("토큰 재발급 실패: {}", e.getMessage());
+					return InvalidTokenException.INSTANCE;
+				})
+				.doOnError(TokenStoreUnavailableException.class,
+						e -> log.error("토큰 재발급 실패 (저장소 사용 불가): {}", e.getMessage()));
+	}
+}
@@ -0,0 +1,138 @@
+package com.donut.swaipe.gateway.service;
+
+import com.donut.swaipe.domain.auth.dto.TokenDto;
+import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.domain.user.service.StoredRefreshToken;
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 액세스 토큰 재발급을 논블로킹으로 수행하는 서비스입니다. 서블릿 앱의 {@code TokenReissueService}와 같은
+ * 규칙으로 동작합니다.
+ *
+ * <ul>
+ *   <li>노드 안에서는 같은 액세스 토큰으로 들어온 재발급을 캐시된 {@link Mono} 하나로 공유합니다.</li>
+ *   <li>노드 사이에서는 같은 Redis 스크립트로 재발급을 선점합니다. 선점하지 못한 요청은 스레드를 재우는
+ *   대신 타이머로 결과를 다시 조회합니다.</li>
+ * </ul>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class ReactiveTokenReissueService {
+
+	private static final String PENDING = "~pending";
+	private static final String CLAIMED = "~claimed";
+
+	private final JwtProvider jwtProvider;
+	private final TokenVersionRegistry tokenVersionRegistry;
+	private final ReactiveTokenStore tokenStore;
+	private final Duration claimTtl;
+	private final Duration gracePeriod;
+	private final Duration pollInterval;
+	private final ConcurrentMap<String, Mono<TokenDto>> inFlight = new ConcurrentHashMap<>();
+
+	public ReactiveTokenReissueService(JwtProvider jwtProvider,
+			TokenVersionRegistry tokenVersionRegistry, ReactiveTokenStore tokenStore,
+			@Value("${token-reissue.claim-ttl:3s}") Duration claimTtl,
+			@Value("${token-reissue.grace-period:10s}") Duration gracePeriod,
+			@Value("${token-reissue.poll-interval:25ms}") Duration pollInterval) {
+		this.jwtProvider = jwtProvider;
+		this.tokenVersionRegistry = tokenVersionRegistry;
+		this.tokenStore = tokenStore;
+		this.claimTtl = claimTtl;
+		this.gracePeriod = gracePeriod;
+		this.pollInterval = pollInterval;
+	}
+
+	/**
+	 * 저장된 리프레시 토큰 레코드로 새 액세스 토큰을 발급합니다. 같은 액세스 토큰으로 들어온 동시 요청은
+	 * 하나로 합쳐지며, 교체가 끝난 뒤 도착한 요청도 유예 시간 동안 같은 결과를 돌려받습니다. 제시된 액세스 토큰이 폐기되었는지는 선점 스크립트가 Redis의 토큰 버전으로 확인합니다.
+	 *
+	 * @param presentedToken 재발급을 요청한 액세스 토큰 원문
+	 * @param presented      서명 검증을 통과한 같은 토큰
+	 * @param current        저장된 리프레시 토큰 레코드
+	 * @return 새 액세스 토큰, 폐기되었거나 이미 다른 세대로 교체되었거나 결과를 받지 못한 경우
+	 * {@link InvalidTokenException}으로 끝남
+	 */
+	public Mono<TokenDto> reissue(String presentedToken, VerifiedToken presented,
+			StoredRefreshToken current) {
+		return inFlight.computeIfAbsent(presentedToken,
+				key -> reissueAcrossNodes(presentedToken, presented, current)
+						.timeout(claimTtl.plus(pollInterval))
+						.onErrorMap(TimeoutException.class, e -> InvalidTokenException.INSTANCE)
+						.doFinally(signal -> inFlight.remove(key))
+						.cache());
+	}
+
+	private Mono<TokenDto> reissueAcrossNodes(String presentedToken, VerifiedToken presented,
+			StoredRefreshToken current) {
+		String username = presented.getSubject();
+		return tokenStore.claimReissue(presentedToken, presented, current, PENDING, claimTtl)
+				.switchIfEmpty(Mono.error(InvalidTokenException.INSTANCE))
+				.flatMap(claim -> {
+					if (CLAIMED.equals(claim)) {
+						return mintAndRotate(username, presentedToken, current);
+					}
+					if (!PENDING.equals(claim)) {
+						log.info(LogEvents.TOKEN_REISSUED, "다른 요청이 재발급한 토큰 공유: username={}",
+								username);
+						return Mono.just(new TokenDto(claim));
+					}
+					return pollResult(username, presentedToken);
+				});
+	}
+
+	private Mono<TokenDto> mintAndRotate(String username, String presentedToken,
+			StoredRefreshToken current) {
+		UserRole role = current.getRole();
+		return tokenStore.getTokenVersion(username)
+				.map(stored -> tokenVersionRegistry.mintVersion(username, stored))
+				.flatMap(version -> {
+					String newAccessToken = jwtProvider.createAccessToken(username, role,
+							current.getUserId(), current.getNickname(), version);
+					String newRefreshToken = jwtProvider.createRefreshToken(username, role,
+							current.getUserId(), current.getNickname(), version);
+					return tokenStore.rotateRefreshToken(username, current, newRefreshToken,
+									presentedToken, newAccessToken, gracePeriod)
+							.flatMap(rotated -> {
+								if (!rotated) {
+									return Mono.error(InvalidTokenException.INSTANCE);
+								}
+								log.info(LogEvents.TOKEN_REISSUED, "토큰 재발급 성공: username={}",
+										username);
+								return Mono.just(new TokenDto(newAccessToken));
+							});
+				});
+	}
+
+	/**
+	 * 다른 요청이 저장할 재발급 결과를 선점 유지 시간 동안 주기적으로 조회합니다. 결과 키가 사라지면 선점한
+	 * 요청이 실패한 것이므로 바로 끝냅니다.
+	 */
+	private Mono<TokenDto> pollResult(String username, String presentedToken) {
+		return Mono.defer(() -> tokenStore.getReissueResult(username, presentedToken))
+				.delaySubscription(pollInterval)
+				.switchIfEmpty(Mono.error(InvalidTokenException.INSTANCE))
+				.filter(result -> !PENDING.equals(result))
+				.repeatWhenEmpty(attempts -> attempts)
+				.timeout(claimTtl)
+				.map(TokenDto::new)
+				.doOnError(TimeoutException.class,
+						e -> log.warn("다른 요청의 재발급 결과를 받지 못함: username={}", username));
+	}
+}
@@ -0,0 +1,153 @@
+package com.donut.swaipe.gateway.service;
+
+import static com.donut.swaipe.global.security.jwt.JwtProvider.REFRESH_TOKEN_TIME;
+
+import com.donut.swaipe.domain.user.service.RefreshTokenCodec;
+import com.donut.swaipe.domain.user.service.StoredRefreshToken;
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리프레시 토큰 저장소(Redis)를 논블로킹으로 호출하는 서비스입니다.
+ *
+ * <p>키 형식, 레코드 형식({@link RefreshTokenCodec}), Lua 스크립트는 서블릿 앱의 {@code RedisService}와
+ * 같으므로 두 런타임이 같은 리프레시 토큰을 읽고 교체할 수 있습니다. 모든 호출은
+ * {@link TokenStoreCircuitBreaker}의 회로를 거치며, 회로가 열려 있거나 호출이 실패하면
+ * {@link TokenStoreUnavailableException}으로 끝납니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class ReactiveTokenStore {
+
+	private static final String REFRESH_TOKEN_PREFIX = "RT:";
+	private static final String REISSUE_PREFIX = "RI:";
+	private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/refresh-token-rotate.lua"), Long.class);
+	private static final RedisScript<String> REISSUE_CLAIM_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/refresh-token-reissue-claim.lua"), String.class);
+
+	private final ReactiveStringRedisTemplate redisTemplate;
+	private final RefreshTokenCodec refreshTokenCodec;
+	private final CircuitBreaker circuitBreaker;
+
+	public ReactiveTokenStore(ReactiveStringRedisTemplate redisTemplate,
+			RefreshTokenCodec refreshTokenCodec, TokenStoreCircuitBreaker tokenStoreCircuitBreaker) {
+		this.redisTemplate = redisTemplate;
+		this.refreshTokenCodec = refreshTokenCodec;
+		this.circuitBreaker = tokenStoreCircuitBreaker.getCircuitBreaker();
+	}
+
+	/**
+	 * 사용자의 리프레시 토큰 레코드를 조회합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @return 저장된 레코드, 없거나 만료된 경우 빈 Mono
+	 */
+	public Mono<StoredRefreshToken> getStoredRefreshToken(String username) {
+		return guard(redisTemplate.opsForValue().get(generateKey(username)))
+				.mapNotNull(refreshTokenCodec::decode);
+	}
+
+	/**
+	 * 사용자의 토큰 버전을 조회합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @return Redis 해시에 저장된 토큰 버전, 없으면 0
+	 */
+	public Mono<Integer> getTokenVersion(String username) {
+		return guard(redisTemplate.<String, String>opsForHash()
+				.get(TokenVersionRegistry.VERSION_KEY, username))
+				.map(Integer::parseInt)
+				.defaultIfEmpty(0);
+	}
+
+	/**
+	 * 제시된 액세스 토큰에 대한 재발급을 선점합니다. 선점과 결과는 제시된 토큰으로 식별되며, 토큰의 폐기
+	 * 여부는 Redis의 토큰 버전과 전체 폐기 시각으로 같은 스크립트에서 확인합니다.
+	 *
+	 * @return {@code refresh-token-reissue-claim.lua}의 반환값, 폐기되었거나 이미 교체된 경우 빈 Mono
+	 */
+	public Mono<String> claimReissue(String presentedToken, VerifiedToken presented,
+			StoredRefreshToken current, String pendingMarker, Duration claimTtl) {
+		String username = presented.getSubject();
+		List<String> keys = List.of(generateKey(username),
+				generateReissueKey(username, presentedToken),
+				TokenVersionRegistry.VERSION_KEY, TokenVersionRegistry.REVOKED_BEFORE_KEY);
+		return guard(redisTemplate.execute(REISSUE_CLAIM_SCRIPT, keys,
+				List.of(current.getRawValue(), pendingMarker, String.valueOf(claimTtl.toMillis()),
+						username, String.valueOf(presented.getVersion()),
+						String.valueOf(presented.getIssuedAt() / 1000)))
+				.next());
+	}
+
+	/**
+	 * 제시된 액세스 토큰에 대한 재발급 결과를 조회합니다.
+	 *
+	 * @return 재발급된 액세스 토큰 또는 진행 중 표시, 없는 경우 빈 Mono
+	 */
+	public Mono<String> getReissueResult(String username, String presentedToken) {
+		return guard(redisTemplate.opsForValue()
+				.get(generateReissueKey(username, presentedToken)));
+	}
+
+	/**
+	 * 리프레시 토큰을 원자적으로 교체하면서, 같은 액세스 토큰으로 재발급을 기다리는 요청이 돌려받을 액세스
+	 * 토큰을 유예 시간 동안 함께 저장합니다.
+	 *
+	 * @return 교체 성공 여부
+	 */
+	public Mono<Boolean> rotateRefreshToken(String username, StoredRefreshToken current,
+			String newRefreshToken, String presentedToken, String newAccessToken, Duration grace) {
+		String newValue = refreshTokenCodec.encode(newRefreshToken, current.getRole(),
+				current.getUserId(), current.getNickname(), System.currentTimeMillis());
+		List<String> keys = List.of(generateKey(username),
+				generateReissueKey(username, presentedToken));
+		List<String> args = List.of(current.getRawValue(), newValue,
+				String.valueOf(REFRESH_TOKEN_TIME), newAccessToken, String.valueOf(grace.toMillis()));
+
+		return guard(redisTemplate.execute(ROTATE_SCRIPT, keys, args).next())
+				.map(rotated -> rotated == 1L)
+				.defaultIfEmpty(false)
+				.doOnNext(success -> {
+					if (!success) {
+						log.warn("리프레시 토큰 교체 실패 (이미 교체되었거나 삭제됨): username={}", username);
+					}
+				});
+	}
+
+	/**
+	 * 호출을 서킷 브레이커로 감싸고, 실패를 저장소 사용 불가 예외로 바꿉니다.
+	 */
+	private <T> Mono<T> guard(Mono<T> call) {
+		return call
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+				.onErrorMap(e -> !(e instanceof TokenStoreUnavailableException), e -> {
+					log.error("토큰 저장소 호출 실패: {}", e.getMessage());
+					return TokenStoreUnavailableException.INSTANCE;
+				});
+	}
+
+	private String generateKey(String username) {
+		return REFRESH_TOKEN_PREFIX + username;
+	}
+
+	private String generateReissueKey(String username, String presentedToken) {
+		return REISSUE_PREFIX + username + ":" + refreshTokenCodec.digestId(presentedToken);
+	}
+}
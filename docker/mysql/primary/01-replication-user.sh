@@ -0,0 +1,6 @@
+#!/bin/bash
+# 복제본이 접속할 계정을 만듭니다.
+mysql -uroot -p"${MYSQL_ROOT_PASSWORD}" <<SQL
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY '${MYSQL_ROOT_PASSWORD}';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+SQL
@@ -0,0 +1,15 @@
+#!/bin/bash
+# 주 DB의 처음부터 GTID 기준으로 복제하고, 이후 재시작에도 쓰기를 막도록 읽기 전용을 저장합니다.
+# 주 DB가 아직 준비되지 않았으면 복제 스레드가 다시 접속합니다.
+mysql -uroot -p"${MYSQL_ROOT_PASSWORD}" <<SQL
+CHANGE REPLICATION SOURCE TO
+  SOURCE_HOST = 'mysql',
+  SOURCE_PORT = 3306,
+  SOURCE_USER = 'repl',
+  SOURCE_PASSWORD = '${REPLICATION_PASSWORD}',
+  SOURCE_AUTO_POSITION = 1,
+  SOURCE_CONNECT_RETRY = 5,
+  GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
+SET PERSIST super_read_only = ON;
+SQL
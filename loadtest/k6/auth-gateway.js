@@ -0,0 +1,111 @@
+// 동시 연결 수를 단계적으로 늘리며 토큰 검증(GET /auth/verify)과 재발급(POST /users/refresh)의
+// 처리량과 꼬리 지연을 측정합니다. 서블릿 앱과 인증 게이트웨이 모듈은 같은 경로를 제공하므로
+// BASE_URL만 바꿔 같은 스크립트로 비교합니다.
+//
+// 사용 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e LOGIN_URL=http://localhost:8080 \
+//     -e RUNTIME=servlet -e MAX_VUS=4000 loadtest/k6/auth-gateway.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e LOGIN_URL=http://localhost:8080 \
+//     -e RUNTIME=reactive -e MAX_VUS=4000 loadtest/k6/auth-gateway.js
+//
+// 로그인은 게이트웨이가 처리하지 않으므로 LOGIN_URL(서블릿 앱)로 보냅니다.
+// RUNTIME은 결과 파일 이름과 태그에만 쓰입니다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { SharedArray } from 'k6/data';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const LOGIN_URL = __ENV.LOGIN_URL || 'http://localhost:8080';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '4000', 10);
+const STAGE = __ENV.STAGE || '1m';
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const REFRESH_RATIO = parseFloat(__ENV.REFRESH_RATIO || '0.1');
+const THINK_TIME = parseFloat(__ENV.THINK_TIME || '0.5');
+const RUNTIME = __ENV.RUNTIME || 'unknown';
+const PASSWORD = 'loadTest1!';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const usernames = new SharedArray('users', () =>
+  Array.from({ length: USERS }, (_, i) => `lt${String(i).padStart(6, '0')}`));
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  tags: { runtime: RUNTIME },
+  scenarios: {
+    connections: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      // 각 단계에서 동시 연결 수를 유지한 채 지연과 실패율을 관찰합니다.
+      stages: [
+        { duration: STAGE, target: Math.round(MAX_VUS / 4) },
+        { duration: STAGE, target: Math.round(MAX_VUS / 2) },
+        { duration: STAGE, target: MAX_VUS },
+        { duration: STAGE, target: MAX_VUS },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  thresholds: {
+    'http_req_failed{name:verify}': ['rate<0.01'],
+    // 경로별 지연을 요약에 남기기 위한 항목입니다.
+    'http_req_duration{name:verify}': ['max>=0'],
+    'http_req_duration{name:refresh}': ['max>=0'],
+  },
+};
+
+export function setup() {
+  for (const username of usernames) {
+    http.post(`${LOGIN_URL}/users`, JSON.stringify({
+      username, password: PASSWORD, nickname: username.slice(0, 10),
+    }), JSON_HEADERS);
+  }
+}
+
+function login(username) {
+  const res = http.post(`${LOGIN_URL}/users/login`,
+    JSON.stringify({ username, password: PASSWORD }), JSON_HEADERS);
+  return res.status === 200 ? res.json('data.accessToken') : null;
+}
+
+let accessToken = null;
+
+export default function () {
+  if (!accessToken) {
+    accessToken = login(usernames[__VU % usernames.length]);
+    if (!accessToken) {
+      sleep(1);
+      return;
+    }
+  }
+
+  if (Math.random() < REFRESH_RATIO) {
+    const res = http.post(`${BASE_URL}/users/refresh`, JSON.stringify({ token: accessToken }),
+      Object.assign({ tags: { name: 'refresh' } }, JSON_HEADERS));
+    if (check(res, { 'refresh 200': (r) => r.status === 200 })) {
+      accessToken = res.json('data.accessToken');
+    } else {
+      accessToken = null;
+    }
+  } else {
+    const res = http.get(`${BASE_URL}/auth/verify`, {
+      headers: { Authorization: `Bearer ${accessToken}` },
+      tags: { name: 'verify' },
+    });
+    check(res, { 'verify 200': (r) => r.status === 200 });
+  }
+  sleep(THINK_TIME);
+}
+
+export function handleSummary(data) {
+  const metric = (name, stat) => {
+    const m = data.metrics[name];
+    return m && m.values[stat] !== undefined ? m.values[stat].toFixed(1) : 'n/a';
+  };
+  return {
+    [`loadtest/results/auth-gateway-${RUNTIME}.json`]: JSON.stringify(data, null, 2),
+    stdout: `runtime=${RUNTIME} maxVUs=${MAX_VUS} `
+      + `rps=${metric('http_reqs', 'rate')} `
+      + `p99=${metric('http_req_duration', 'p(99)')}ms `
+      + `failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`,
+  };
+}
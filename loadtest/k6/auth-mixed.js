@@ -0,0 +1,95 @@
+// 로그인(BCrypt + JDBC + Redis)과 토큰 재발급(Redis)을 섞은 부하를 고정 도착률로 보냅니다.
+//
+// 사용 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=400 -e MODE=virtual loadtest/k6/auth-mixed.js
+//
+// MODE는 결과 파일 이름과 태그에만 쓰이며, 서버 실행 모드는 VIRTUAL_THREADS_ENABLED로 정합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '300', 10);
+const DURATION = __ENV.DURATION || '3m';
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const MODE = __ENV.MODE || 'unknown';
+const PASSWORD = 'loadTest1!';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const usernames = new SharedArray('users', () =>
+  Array.from({ length: USERS }, (_, i) => `lt${String(i).padStart(6, '0')}`));
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  tags: { mode: MODE },
+  scenarios: {
+    login: {
+      executor: 'constant-arrival-rate',
+      exec: 'login',
+      rate: Math.max(1, Math.round(RATE * 0.1)),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 2000,
+    },
+    refresh: {
+      executor: 'constant-arrival-rate',
+      exec: 'refresh',
+      rate: Math.max(1, Math.round(RATE * 0.9)),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 5000,
+    },
+  },
+  thresholds: {
+    'http_req_failed{scenario:refresh}': ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  for (const username of usernames) {
+    http.post(`${BASE_URL}/users`, JSON.stringify({
+      username, password: PASSWORD, nickname: username.slice(0, 10),
+    }), JSON_HEADERS);
+  }
+}
+
+function loginAs(username) {
+  const res = http.post(`${BASE_URL}/users/login`,
+    JSON.stringify({ username, password: PASSWORD }), JSON_HEADERS);
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return res.status === 200 ? res.json('data.accessToken') : null;
+}
+
+let accessToken = null;
+
+export function login() {
+  loginAs(usernames[Math.floor(Math.random() * usernames.length)]);
+}
+
+export function refresh() {
+  if (!accessToken) {
+    accessToken = loginAs(usernames[__VU % usernames.length]);
+    if (!accessToken) {
+      return;
+    }
+  }
+  const res = http.post(`${BASE_URL}/users/refresh`,
+    JSON.stringify({ token: accessToken }), JSON_HEADERS);
+  if (check(res, { 'refresh 200': (r) => r.status === 200 })) {
+    accessToken = res.json('data.accessToken');
+  } else {
+    accessToken = null;
+  }
+}
+
+export function handleSummary(data) {
+  return {
+    [`loadtest/results/auth-mixed-${MODE}.json`]: JSON.stringify(data, null, 2),
+    stdout: `mode=${MODE} reqs=${data.metrics.http_reqs.values.count} `
+      + `rps=${data.metrics.http_reqs.values.rate.toFixed(1)} `
+      + `p99=${data.metrics.http_req_duration.values['p(99)'].toFixed(1)}ms `
+      + `failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`,
+  };
+}
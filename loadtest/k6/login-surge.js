@@ -0,0 +1,101 @@
+// 일반 인증 API 트래픽을 고정 도착률로 보내는 동안 로그인 요청을 급격히 늘려,
+// 비밀번호 해싱 전용 풀이 다른 요청의 지연을 지키는지 확인합니다.
+//
+// 사용 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e API_RATE=300 -e LOGIN_PEAK=400 loadtest/k6/login-surge.js
+//
+// 로그인 503(Retry-After)은 해싱 대기열이 가득 찼다는 뜻이므로 실패가 아니라 별도 지표로 셉니다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { SharedArray } from 'k6/data';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const API_RATE = parseInt(__ENV.API_RATE || '300', 10);
+const LOGIN_PEAK = parseInt(__ENV.LOGIN_PEAK || '400', 10);
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const PASSWORD = 'loadTest1!';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const loginShed = new Counter('login_shed');
+
+const usernames = new SharedArray('users', () =>
+  Array.from({ length: USERS }, (_, i) => `lt${String(i).padStart(6, '0')}`));
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  scenarios: {
+    api: {
+      executor: 'constant-arrival-rate',
+      exec: 'api',
+      rate: API_RATE,
+      timeUnit: '1s',
+      duration: '4m',
+      preAllocatedVUs: 100,
+      maxVUs: 2000,
+    },
+    surge: {
+      executor: 'ramping-arrival-rate',
+      exec: 'login',
+      startRate: 1,
+      timeUnit: '1s',
+      startTime: '1m',
+      stages: [
+        { duration: '30s', target: LOGIN_PEAK },
+        { duration: '1m', target: LOGIN_PEAK },
+        { duration: '30s', target: 1 },
+      ],
+      preAllocatedVUs: 100,
+      maxVUs: 3000,
+    },
+  },
+  thresholds: {
+    'http_req_failed{scenario:api}': ['rate<0.01'],
+    'http_req_duration{scenario:api}': ['max>=0'],
+    'http_req_duration{scenario:surge}': ['max>=0'],
+  },
+};
+
+export function setup() {
+  const tokens = [];
+  for (const username of usernames) {
+    http.post(`${BASE_URL}/users`, JSON.stringify({
+      username, password: PASSWORD, nickname: username.slice(0, 10),
+    }), JSON_HEADERS);
+    const res = http.post(`${BASE_URL}/users/login`,
+      JSON.stringify({ username, password: PASSWORD }), JSON_HEADERS);
+    if (res.status === 200) {
+      tokens.push(res.json('data.accessToken'));
+    }
+  }
+  return { tokens };
+}
+
+export function api(data) {
+  const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+  const res = http.get(`${BASE_URL}/auth/verify`, {
+    headers: { Authorization: `Bearer ${token}` },
+  });
+  check(res, { 'api 200': (r) => r.status === 200 });
+}
+
+export function login() {
+  const username = usernames[Math.floor(Math.random() * usernames.length)];
+  const res = http.post(`${BASE_URL}/users/login`,
+    JSON.stringify({ username, password: PASSWORD }), JSON_HEADERS);
+  if (res.status === 503) {
+    loginShed.add(1);
+    check(res, { 'shed has Retry-After': (r) => r.headers['Retry-After'] !== undefined });
+    return;
+  }
+  check(res, { 'login 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return {
+    'loadtest/results/login-surge.json': JSON.stringify(data, null, 2),
+    stdout: `api p99=${data.metrics['http_req_duration{scenario:api}'].values['p(99)'].toFixed(1)}ms `
+      + `login p99=${data.metrics['http_req_duration{scenario:surge}'].values['p(99)'].toFixed(1)}ms `
+      + `shed=${data.metrics.login_shed ? data.metrics.login_shed.values.count : 0}\n`,
+  };
+}
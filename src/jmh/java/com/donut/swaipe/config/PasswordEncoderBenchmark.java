@@ -0,0 +1,41 @@
+package com.donut.swaipe.config;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 로그인 시 수행되는 BCrypt 비밀번호 검증 비용을 측정합니다. 운영 강도는 시작 시 목표 시간에 맞춰
+ * 정해지므로(PasswordHashingCalibration) 하한(10)과 그 위 두 단계를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+	private static final String RAW_PASSWORD = "nada5011!@@#AS";
+
+	@Param({"10", "11", "12"})
+	public int strength;
+
+	private BCryptPasswordEncoder passwordEncoder;
+	private String encodedPassword;
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = new BCryptPasswordEncoder(strength);
+		encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+}
@@ -0,0 +1,43 @@
+package com.donut.swaipe.global.common;
+
+import com.donut.swaipe.domain.auth.dto.TokenDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 애플리케이션과 같은 방식으로 구성한 ObjectMapper로 ApiResponse 직렬화 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+	private ObjectMapper objectMapper;
+	private TokenDto tokenDto;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		tokenDto = new TokenDto("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJiZW5jaG1hcmsifQ.signature");
+	}
+
+	@Benchmark
+	public byte[] errorResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ApiResponse.error(MessageCode.INVALID_TOKEN));
+	}
+
+	@Benchmark
+	public byte[] tokenResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(
+				ApiResponse.success(MessageCode.GENERATE_TOKEN, tokenDto));
+	}
+}
@@ -0,0 +1,45 @@
+package com.donut.swaipe.global.common;
+
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 거절 응답 생성 비용을 측정합니다. 요청마다 예외를 만들고 응답을 직렬화하던 방식과, 재사용하는 예외와
+ * 미리 직렬화된 본문을 쓰는 방식을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ErrorResponseBenchmark {
+
+	private ObjectMapper objectMapper;
+	private ErrorResponses errorResponses;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		objectMapper = new ObjectMapper();
+		errorResponses = new ErrorResponses(objectMapper);
+	}
+
+	@Benchmark
+	public byte[] serializePerRequest() throws JsonProcessingException {
+		InvalidTokenException e = new InvalidTokenException();
+		return objectMapper.writeValueAsBytes(ApiResponse.error(e.getMessageCode()));
+	}
+
+	@Benchmark
+	public byte[] precomputed() {
+		InvalidTokenException e = InvalidTokenException.INSTANCE;
+		return errorResponses.entity(HttpStatus.UNAUTHORIZED, e.getMessageCode()).getBody();
+	}
+}
@@ -0,0 +1,73 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HS256 전용 코덱과 jjwt의 토큰 발급 및 검증 비용을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Hs256TokenCodecBenchmark {
+
+	private static final long VALIDITY = 30 * 60 * 1000L;
+
+	private SecretKey key;
+	private Hs256TokenCodec codec;
+	private JwtParser parser;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		key = Keys.hmacShaKeyFor("benchmark-secret-key-benchmark-secret-key".getBytes());
+		codec = new Hs256TokenCodec(key);
+		parser = Jwts.parserBuilder().setSigningKey(key).build();
+		long now = System.currentTimeMillis();
+		token = codec.encode("benchmark-user", UserRole.USER, 1L, "bench", 1, now, now + VALIDITY);
+	}
+
+	@Benchmark
+	public String codecEncode() {
+		long now = System.currentTimeMillis();
+		return codec.encode("benchmark-user", UserRole.USER, 1L, "bench", 1, now, now + VALIDITY);
+	}
+
+	@Benchmark
+	public String jjwtEncode() {
+		Date now = new Date();
+		return Jwts.builder()
+				.setSubject("benchmark-user")
+				.claim("auth", UserRole.USER)
+				.claim("uid", 1L)
+				.claim("nick", "bench")
+				.setExpiration(new Date(now.getTime() + VALIDITY))
+				.setIssuedAt(now)
+				.signWith(key, SignatureAlgorithm.HS256)
+				.compact();
+	}
+
+	@Benchmark
+	public VerifiedToken codecDecode() {
+		return codec.decode(token, System.currentTimeMillis());
+	}
+
+	@Benchmark
+	public Claims jjwtDecode() {
+		return parser.parseClaimsJws(token).getBody();
+	}
+}
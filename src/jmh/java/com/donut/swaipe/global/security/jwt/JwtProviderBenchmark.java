@@ -0,0 +1,54 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 인가 필터가 요청마다 호출하는 JwtProvider 경로를 측정합니다. 검증 캐시 사용 여부를 함께 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtProviderBenchmark {
+
+	private static final String SECRET = Base64.getEncoder()
+			.encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+	@Param({"false", "true"})
+	public boolean cacheEnabled;
+
+	private JwtProvider jwtProvider;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		jwtProvider = new JwtProvider(JwtKeyRing.hmac(SECRET),
+				new VerifiedTokenCache(cacheEnabled, 10_000), new TokenVersionRegistry(null, null));
+		jwtProvider.init();
+		accessToken = jwtProvider.createAccessToken("benchmark-user", UserRole.USER, 1L, "bench");
+	}
+
+	@Benchmark
+	public String createAccessToken() {
+		return jwtProvider.createAccessToken("benchmark-user", UserRole.USER, 1L, "bench");
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtProvider.validateToken(accessToken);
+	}
+
+	@Benchmark
+	public String getUsernameFromToken() {
+		return jwtProvider.getUsernameFromToken(accessToken);
+	}
+}
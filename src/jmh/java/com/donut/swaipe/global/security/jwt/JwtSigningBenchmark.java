@@ -0,0 +1,52 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HS256과 ES256의 토큰 발급 및 검증 비용을 비교합니다. 검증 캐시는 끄고 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+	private static final String SECRET = Base64.getEncoder()
+			.encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+	@Param({"HS256", "ES256"})
+	public String algorithm;
+
+	private JwtProvider jwtProvider;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		JwtKeyRing keyRing = "ES256".equals(algorithm)
+				? JwtKeyRing.ec("bench", JwtKeyRing.generateEcKeyPair(), null)
+				: JwtKeyRing.hmac(SECRET);
+		jwtProvider = new JwtProvider(keyRing, new VerifiedTokenCache(false, 0),
+				new TokenVersionRegistry(null, null));
+		jwtProvider.init();
+		accessToken = jwtProvider.createAccessToken("benchmark-user", UserRole.USER, 1L, "bench");
+	}
+
+	@Benchmark
+	public String mint() {
+		return jwtProvider.createAccessToken("benchmark-user", UserRole.USER, 1L, "bench");
+	}
+
+	@Benchmark
+	public VerifiedToken verify() {
+		return jwtProvider.verify(accessToken);
+	}
+}
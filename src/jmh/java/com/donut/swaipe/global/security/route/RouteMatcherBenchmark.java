@@ -0,0 +1,63 @@
+package com.donut.swaipe.global.security.route;
+
+import static org.springframework.web.bind.annotation.RequestMethod.GET;
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 공개 경로 판별 비용을 측정합니다. 이전 방식(목록을 스트림으로 훑는 startsWith 비교)과 컴파일된
+ * 트라이 매처를 같은 경로로 비교합니다. 할당 여부는 {@code -prof gc}로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteMatcherBenchmark {
+
+	private static final List<String> LEGACY_PERMIT_ALL_PATHS = List.of(
+			"/users/login",
+			"/users",
+			"/users/refresh",
+			"/swagger-ui",
+			"/v3/api-docs",
+			"/swagger-resources",
+			"/v3/api-docs.yaml",
+			"/webjars",
+			"/.well-known/jwks.json"
+	);
+
+	@Param({"/users/login", "/swagger-ui/index.html", "/payments/history"})
+	public String requestURI;
+
+	private RouteMatcher matcher;
+
+	@Setup
+	public void setUp() {
+		List<PublicRoute> routes = new ArrayList<>(RoutePolicyRegistry.DECLARED_ROUTES);
+		routes.add(PublicRoute.of("/users", POST));
+		routes.add(PublicRoute.of("/users/refresh", POST));
+		routes.add(PublicRoute.of("/.well-known/jwks.json", GET));
+		matcher = RouteMatcher.compile(routes);
+	}
+
+	@Benchmark
+	public boolean legacyStartsWith() {
+		return LEGACY_PERMIT_ALL_PATHS.stream()
+				.anyMatch(requestURI::startsWith);
+	}
+
+	@Benchmark
+	public boolean compiledMatcher() {
+		return matcher.matches("POST", requestURI);
+	}
+}
@@ -0,0 +1,48 @@
+package com.donut.swaipe.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 오류 진단용 요청 본문 수집 설정입니다. 지정한 경로와 진단 헤더가 붙은 요청만 본문 앞부분을 수집합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "body-capture")
+public class BodyCaptureProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 요청 하나에서 수집하는 최대 바이트 수입니다.
+	 */
+	private int maxBytes = 2048;
+
+	/**
+	 * 동시에 수집할 수 있는 요청 수입니다. 버퍼가 모두 사용 중이면 수집 없이 처리합니다.
+	 */
+	private int poolSize = 32;
+
+	/**
+	 * 항상 본문을 수집할 경로 패턴입니다.
+	 */
+	private List<String> routes = new ArrayList<>();
+
+	/**
+	 * 이 헤더가 있는 요청은 경로와 관계없이 본문을 수집합니다.
+	 */
+	private String diagnosticHeader = "X-Debug-Capture";
+
+	/**
+	 * 진단 헤더를 받아들이는 프로필입니다. 이 중 하나가 활성화된 경우에만 헤더가 동작하며, 비어 있으면 헤더를
+	 * 무시합니다. 누구나 붙일 수 있는 헤더이므로 운영 프로필은 넣지 않습니다.
+	 */
+	private List<String> diagnosticHeaderProfiles = new ArrayList<>(List.of("local"));
+}
@@ -0,0 +1,99 @@
+package com.donut.swaipe.config;
+
+import com.donut.swaipe.global.datasource.ReadYourWritesTracker;
+import com.donut.swaipe.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 복제본 라우팅을 구성합니다. {@code datasource.routing.enabled}가 true일 때만 기본 데이터소스를
+ * 대체하며, 그렇지 않으면 Spring Boot가 {@code spring.datasource}로 만드는 단일 데이터소스를 사용합니다.
+ *
+ * <p>주 DB 풀은 {@code spring.datasource}와 {@code spring.datasource.hikari} 설정으로 만들고, 복제본 풀은
+ * 주 DB 풀의 설정을 복사한 뒤 접속 정보만 바꿔 읽기 전용으로 엽니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+	/**
+	 * 쓰기와 고정된 읽기를 처리하는 주 DB 커넥션 풀입니다.
+	 *
+	 * @param properties {@code spring.datasource} 설정
+	 * @return 주 DB 커넥션 풀
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	/**
+	 * 트랜잭션 속성에 따라 주 DB와 복제본 중 하나로 보내는 데이터소스입니다.
+	 *
+	 * @param primaryDataSource     주 DB 커넥션 풀
+	 * @param properties            복제본 접속 정보
+	 * @param readYourWritesTracker 쓰기 후 고정 상태
+	 * @return 라우팅 데이터소스
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+	public ReplicationRoutingDataSource replicationRoutingDataSource(
+			HikariDataSource primaryDataSource, DataSourceRoutingProperties properties,
+			ReadYourWritesTracker readYourWritesTracker) {
+		List<DataSource> replicas = new ArrayList<>();
+		for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+			replicas.add(createReplica(primaryDataSource, replica, replicas.size()));
+		}
+		return new ReplicationRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+	}
+
+	/**
+	 * JPA와 트랜잭션 관리자가 사용하는 데이터소스입니다. 읽기 전용 여부가 정해진 뒤 경로를 고르도록 실제
+	 * 커넥션을 첫 SQL 실행까지 미룹니다.
+	 *
+	 * @param replicationRoutingDataSource 라우팅 데이터소스
+	 * @return 지연 커넥션 데이터소스
+	 */
+	@Bean
+	@Primary
+	@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+	public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+	}
+
+	private HikariDataSource createReplica(HikariDataSource primary,
+			DataSourceRoutingProperties.Replica replica, int index) {
+		HikariDataSource dataSource = new HikariDataSource();
+		primary.copyStateTo(dataSource);
+		dataSource.setPoolName("replica-" + index);
+		dataSource.setJdbcUrl(replica.getUrl());
+		if (replica.getUsername() != null) {
+			dataSource.setUsername(replica.getUsername());
+		}
+		if (replica.getPassword() != null) {
+			dataSource.setPassword(replica.getPassword());
+		}
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+}
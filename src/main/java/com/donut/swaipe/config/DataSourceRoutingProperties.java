@@ -0,0 +1,39 @@
+package com.donut.swaipe.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 복제본 라우팅 설정입니다. 복제본 접속 정보와, 쓰기 후 사용자의 읽기를 주 DB로 고정할 시간을
+ * 지정합니다. 복제본의 사용자 이름과 비밀번호를 비워 두면 주 DB와 같은 값을 사용합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+	private boolean enabled = false;
+
+	private Duration pinWindow = Duration.ofSeconds(2);
+
+	private long pinMaximumSize = 100_000;
+
+	private List<Replica> replicas = new ArrayList<>();
+
+	@Getter
+	@Setter
+	public static class Replica {
+
+		private String url;
+		private String username;
+		private String password;
+	}
+}
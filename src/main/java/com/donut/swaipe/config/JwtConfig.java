@@ -0,0 +1,106 @@
+package com.donut.swaipe.config;
+
+import com.donut.swaipe.config.JwtSigningProperties.KeyEntry;
+import com.donut.swaipe.global.security.jwt.JwtKeyRing;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * JWT 서명 키링을 구성하는 설정 클래스입니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtConfig {
+
+	@Value("${jwt-secret-key}")
+	private String secretKey;
+
+	/**
+	 * 설정된 알고리즘에 맞는 키링을 생성합니다. ES256 키가 설정되지 않은 경우
+	 * {@code jwt.signing.allow-ephemeral-key}가 켜져 있을 때만 임시 키 쌍을 생성하며, 이 키로 발급한 토큰은
+	 * 재시작 후 검증할 수 없습니다.
+	 *
+	 * @param properties 서명 키 설정
+	 * @return 서명 및 검증 키링
+	 */
+	@Bean
+	public JwtKeyRing jwtKeyRing(JwtSigningProperties properties) {
+		SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+		if (algorithm == SignatureAlgorithm.HS256) {
+			return JwtKeyRing.hmac(secretKey);
+		}
+		if (algorithm != SignatureAlgorithm.ES256) {
+			throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithm);
+		}
+
+		SecretKey hmacKey = properties.isAcceptHmac()
+				? Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey))
+				: null;
+
+		if (properties.getKeys().isEmpty()) {
+			if (!properties.isAllowEphemeralKey()) {
+				throw new IllegalStateException("ES256 서명 키가 설정되지 않았습니다. jwt.signing.keys와 "
+						+ "jwt.signing.active-kid를 설정하거나, 로컬 개발에서만 "
+						+ "jwt.signing.allow-ephemeral-key=true로 임시 키를 허용하세요.");
+			}
+			String kid = UUID.randomUUID().toString();
+			log.warn("ES256 서명 키가 설정되지 않아 임시 키를 생성합니다: kid={}", kid);
+			return JwtKeyRing.ec(kid, JwtKeyRing.generateEcKeyPair(), hmacKey);
+		}
+
+		return buildEcKeyRing(properties, hmacKey);
+	}
+
+	private JwtKeyRing buildEcKeyRing(JwtSigningProperties properties, SecretKey hmacKey) {
+		Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+		PrivateKey signingKey = null;
+
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance("EC");
+			for (KeyEntry entry : properties.getKeys()) {
+				verificationKeys.put(entry.getKid(), keyFactory.generatePublic(
+						new X509EncodedKeySpec(Base64.getDecoder().decode(entry.getPublicKey()))));
+
+				if (entry.getKid().equals(properties.getActiveKid())
+						&& StringUtils.hasText(entry.getPrivateKey())) {
+					signingKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(
+							Base64.getDecoder().decode(entry.getPrivateKey())));
+				}
+			}
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다.", e);
+		}
+
+		if (signingKey == null) {
+			throw new IllegalStateException(
+					"활성 kid의 개인키가 설정되지 않았습니다: " + properties.getActiveKid());
+		}
+
+		JwtKeyRing keyRing = new JwtKeyRing(SignatureAlgorithm.ES256, properties.getActiveKid(),
+				signingKey, hmacKey, verificationKeys);
+		log.info("JWT 키링 구성 완료: {}", keyRing);
+		return keyRing;
+	}
+}
@@ -0,0 +1,65 @@
+package com.donut.swaipe.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JWT 서명 키 설정입니다.
+ *
+ * <pre>
+ * jwt:
+ *   signing:
+ *     algorithm: ES256
+ *     active-kid: 2026-10
+ *     keys:
+ *       - kid: 2026-10
+ *         private-key: (Base64 PKCS#8 DER)
+ *         public-key: (Base64 X.509 DER)
+ *       - kid: 2026-07          # 교체 전 키는 공개키만 남겨 기존 토큰을 검증합니다.
+ *         public-key: (Base64 X.509 DER)
+ * </pre>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+	/**
+	 * 서명 알고리즘 (HS256 또는 ES256)
+	 */
+	private String algorithm = "HS256";
+
+	/**
+	 * 새 토큰 서명에 사용할 키 ID
+	 */
+	private String activeKid;
+
+	/**
+	 * kid 헤더가 없는 HS256 토큰의 검증 허용 여부 (ES256 전환 기간용)
+	 */
+	private boolean acceptHmac = true;
+
+	/**
+	 * ES256 키가 설정되지 않았을 때 임시 키 쌍 생성 허용 여부 (로컬 개발용). 임시 키로 발급한 토큰은 재시작하거나
+	 * 다른 노드로 가면 검증되지 않으므로, 허용하지 않으면 시작에 실패합니다.
+	 */
+	private boolean allowEphemeralKey = false;
+
+	private List<KeyEntry> keys = new ArrayList<>();
+
+	@Getter
+	@Setter
+	public static class KeyEntry {
+
+		private String kid;
+		private String privateKey;
+		private String publicKey;
+	}
+}
@@ -0,0 +1,41 @@
+package com.donut.swaipe.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로그인 요청 제한 설정입니다. 클라이언트 IP와 사용자 이름별로 슬라이딩 윈도 안의 허용 횟수를 지정합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "login.rate-limit")
+public class LoginRateLimitProperties {
+
+	private boolean enabled = true;
+
+	private Window ip = new Window(30, Duration.ofMinutes(1));
+
+	private Window username = new Window(5, Duration.ofMinutes(1));
+
+	@Getter
+	@Setter
+	public static class Window {
+
+		private int limit;
+		private Duration window;
+
+		public Window() {
+		}
+
+		public Window(int limit, Duration window) {
+			this.limit = limit;
+			this.window = window;
+		}
+	}
+}
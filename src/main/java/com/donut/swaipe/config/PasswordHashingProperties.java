@@ -0,0 +1,57 @@
+package com.donut.swaipe.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해싱 설정입니다. 해싱 스레드 풀의 크기와 함께, 새 해시에 사용할 알고리즘과 해시 한 번에 허용할
+ * 목표 시간을 지정합니다. 강도나 반복 횟수를 0으로 두면 시작 시 목표 시간에 맞춰 측정한 값을 사용합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+	public enum Algorithm {
+		BCRYPT,
+		ARGON2
+	}
+
+	private int threads = 0;
+
+	private int queueCapacity = 64;
+
+	private Duration deadline = Duration.ofSeconds(2);
+
+	private Algorithm algorithm = Algorithm.BCRYPT;
+
+	private Duration target = Duration.ofMillis(250);
+
+	private Bcrypt bcrypt = new Bcrypt();
+
+	private Argon2 argon2 = new Argon2();
+
+	@Getter
+	@Setter
+	public static class Bcrypt {
+
+		private int strength = 0;
+		private int minStrength = 10;
+	}
+
+	@Getter
+	@Setter
+	public static class Argon2 {
+
+		private int memoryKib = 19 * 1024;
+		private int parallelism = 1;
+		private int iterations = 0;
+		private int minIterations = 2;
+	}
+}
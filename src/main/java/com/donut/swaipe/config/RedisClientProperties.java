@@ -0,0 +1,55 @@
+package com.donut.swaipe.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Lettuce Redis 클라이언트 설정입니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "redis.client")
+public class RedisClientProperties {
+
+	/**
+	 * 연결 모드. SHARED는 하나의 연결을 공유(멀티플렉싱)하고, POOLED는 커넥션 풀을 사용합니다.
+	 */
+	private Mode mode = Mode.SHARED;
+
+	private Duration connectTimeout = Duration.ofSeconds(1);
+	private Duration commandTimeout = Duration.ofMillis(500);
+	private Duration shutdownTimeout = Duration.ofMillis(100);
+
+	/**
+	 * 파이프라인 실행 시 몇 개의 명령을 모아서 flush할지 설정합니다. 1이면 명령마다 flush합니다.
+	 */
+	private int pipelineFlushSize = 64;
+
+	/**
+	 * 명령별 지연 시간 히스토그램 기록 여부
+	 */
+	private boolean latencyHistogram = true;
+
+	private Pool pool = new Pool();
+
+	public enum Mode {
+		SHARED,
+		POOLED
+	}
+
+	@Getter
+	@Setter
+	public static class Pool {
+
+		private int maxActive = 16;
+		private int maxIdle = 8;
+		private int minIdle = 0;
+		private Duration maxWait = Duration.ofMillis(200);
+	}
+}
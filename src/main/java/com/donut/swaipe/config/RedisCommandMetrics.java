@@ -0,0 +1,50 @@
+package com.donut.swaipe.config;
+
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 Redis 명령 수와 실패 횟수를 집계합니다. 명령별 지연 시간은 Lettuce의
+ * {@code MicrometerCommandLatencyRecorder}가 기록합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class RedisCommandMetrics implements CommandListener, MeterBinder {
+
+	private final AtomicLong inFlight = new AtomicLong();
+	private final LongAdder failed = new LongAdder();
+
+	@Override
+	public void commandStarted(CommandStartedEvent event) {
+		inFlight.incrementAndGet();
+	}
+
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+		inFlight.decrementAndGet();
+	}
+
+	@Override
+	public void commandFailed(CommandFailedEvent event) {
+		inFlight.decrementAndGet();
+		failed.increment();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("redis.commands.in_flight", inFlight, AtomicLong::get)
+				.register(registry);
+		FunctionCounter.builder("redis.commands.failed", failed, LongAdder::sum)
+				.register(registry);
+	}
+}
@@ -1,15 +1,43 @@
 package com.donut.swaipe.config;
 
+import com.donut.swaipe.config.RedisClientProperties.Mode;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushPolicy;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis 클라이언트(Lettuce) 설정입니다. 연결 모드, 타임아웃, 파이프라인 flush 정책과 명령 지표를
+ * 구성합니다.
+ *
+ * @author donut
+ * @version 1.1
+ * @since 2024-01-19
+ */
 @Configuration
+@EnableConfigurationProperties(RedisClientProperties.class)
 public class RedisConfig {
 
     @Value("${spring.data.redis.host}")
@@ -18,18 +46,113 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     public int port;
 
+    /**
+     * 애플리케이션의 모든 Lettuce 클라이언트가 공유하는 리소스(이벤트 루프, 지연 시간 기록기)입니다.
+     *
+     * @param properties    Redis 클라이언트 설정
+     * @param meterRegistry 지표 레지스트리
+     * @return 공유 ClientResources
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(RedisClientProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            builder.commandLatencyRecorder(new MicrometerCommandLatencyRecorder(registry,
+                    MicrometerOptions.builder()
+                            .histogram(properties.isLatencyHistogram())
+                            .build()));
+        }
+        return builder.build();
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+    public RedisConnectionFactory redisConnectionFactory(RedisClientProperties properties,
+            ClientResources clientResources) {
+        LettuceClientConfigurationBuilder builder = properties.getMode() == Mode.POOLED
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(properties))
+                : LettuceClientConfiguration.builder();
+
+        LettuceClientConfiguration clientConfiguration = builder
+                .clientResources(clientResources)
+                .clientOptions(clientOptions(properties))
+                .commandTimeout(properties.getCommandTimeout())
+                .shutdownTimeout(properties.getShutdownTimeout())
+                .build();
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(host, port), clientConfiguration);
+        factory.setShareNativeConnection(properties.getMode() == Mode.SHARED);
+        factory.setPipeliningFlushPolicy(properties.getPipelineFlushSize() > 1
+                ? PipeliningFlushPolicy.buffered(properties.getPipelineFlushSize())
+                : PipeliningFlushPolicy.flushEachCommand());
+        return factory;
+    }
+
+    @Bean
+    public RedisCommandMetrics redisCommandMetrics() {
+        return new RedisCommandMetrics();
+    }
+
+    /**
+     * 연결 팩토리가 시작된 뒤 네이티브 클라이언트에 명령 리스너를 등록합니다.
+     */
+    @Bean
+    public SmartInitializingSingleton redisCommandMetricsRegistrar(
+            RedisConnectionFactory redisConnectionFactory, RedisCommandMetrics metrics) {
+        return () -> {
+            if (redisConnectionFactory instanceof LettuceConnectionFactory lettuce
+                    && lettuce.getNativeClient() != null) {
+                lettuce.getNativeClient().addListener(metrics);
+            }
+        };
     }
 
     @Bean
     @Primary
-    public RedisTemplate<String, String> redisTemplate() {
+    public RedisTemplate<String, String> redisTemplate(
+            RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(redisConnectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Redis pub/sub 메시지를 받는 리스너 컨테이너입니다. 구독 연결 하나를 모든 리스너가 공유합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * 모든 Lettuce 연결에 적용할 타임아웃 옵션을 생성합니다.
+     *
+     * @param properties Redis 클라이언트 설정
+     * @return ClientOptions
+     */
+    public static ClientOptions clientOptions(RedisClientProperties properties) {
+        return ClientOptions.builder()
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(properties.getConnectTimeout())
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(properties.getCommandTimeout()))
+                .build();
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig(RedisClientProperties properties) {
+        RedisClientProperties.Pool pool = properties.getPool();
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        config.setMaxWait(pool.getMaxWait());
+        return config;
+    }
+}
@@ -0,0 +1,67 @@
+package com.donut.swaipe.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 리프레시 토큰 저장소(Redis) 장애 대응 설정입니다. 서킷 브레이커 임계값과 저하 모드의 동작을 지정합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "token-store")
+public class TokenStoreProperties {
+
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	private Degraded degraded = new Degraded();
+
+	public enum RotationPolicy {
+		/**
+		 * 저하 모드에서는 토큰을 재발급하지 않고 503을 응답합니다.
+		 */
+		DENY,
+		/**
+		 * 만료된 액세스 토큰의 클레임으로 재발급하고, 저장소 교체는 복구 후 수행합니다.
+		 */
+		QUEUE
+	}
+
+	@Getter
+	@Setter
+	public static class CircuitBreaker {
+
+		private float failureRateThreshold = 50;
+		private float slowCallRateThreshold = 50;
+		private Duration slowCallDuration = Duration.ofMillis(200);
+		private int slidingWindowSize = 50;
+		private int minimumNumberOfCalls = 20;
+		private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+		private int permittedCallsInHalfOpenState = 5;
+	}
+
+	@Getter
+	@Setter
+	public static class Degraded {
+
+		/**
+		 * 저하 모드를 유지할 수 있는 최대 시간. 이 시간이 지나면 저장소 확인 없이 토큰을 받아들이지 않습니다.
+		 */
+		private Duration maxDuration = Duration.ofMinutes(5);
+
+		private RotationPolicy rotationPolicy = RotationPolicy.DENY;
+
+		/**
+		 * QUEUE 정책에서 재발급을 허용할 액세스 토큰의 만료 후 경과 시간. 액세스 토큰 유효 시간보다 길게
+		 * 설정해도 유효 시간으로 제한됩니다.
+		 */
+		private Duration reissueGrace = Duration.ofMinutes(5);
+
+		private int rotationQueueCapacity = 1000;
+	}
+}
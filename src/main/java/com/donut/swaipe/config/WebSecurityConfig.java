@@ -1,86 +1,109 @@
 package com.donut.swaipe.config;
 
+import com.donut.swaipe.domain.auth.service.TokenReissueService;
+import com.donut.swaipe.domain.user.enums.UserRole;
 import com.donut.swaipe.domain.user.service.RedisService;
+import com.donut.swaipe.domain.user.service.RefreshTokenNearCache;
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
+import com.donut.swaipe.global.common.ErrorResponses;
 import com.donut.swaipe.global.security.details.UserDetailsServiceImpl;
 import com.donut.swaipe.global.security.filter.JwtAuthenticationFilter;
 import com.donut.swaipe.global.security.filter.JwtAuthorizationFilter;
 import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.password.OffloadingPasswordEncoder;
+import com.donut.swaipe.global.security.password.PasswordHashingCalibration;
+import com.donut.swaipe.global.security.password.RehashingAuthenticationProvider;
+import com.donut.swaipe.global.security.ratelimit.LoginRateLimiter;
+import com.donut.swaipe.global.security.route.RoutePolicyRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 
 /**
  * Spring Security 설정을 담당하는 설정 클래스입니다. JWT 인증, CORS, CSRF 및 기타 보안 설정을 관리합니다.
  *
  * @author donut
- * @version 1.1
+ * @version 1.2
  * @since 2024-01-28
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({LoginRateLimitProperties.class, PasswordHashingProperties.class})
 @RequiredArgsConstructor
 public class WebSecurityConfig {
 
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 
-	private static final List<String> SWAGGER_PATHS = List.of(
-			"/swagger-ui/**",
-			"/v3/api-docs/**",
-			"/v3/api-docs.yaml",
-			"/swagger-resources/**",
-			"/swagger-ui.html",
-			"/webjars/**"
-	);
-
-	private static final List<String> PERMIT_ALL_PATHS = List.of(
-			"/users",
-			"/users/login",
-			"/users/refresh",
-			"/swagger-ui",
-			"/v3/api-docs",
-			"/swagger-resources",
-			"/v3/api-docs.yaml",
-			"/webjars"
-	);
-
 	private final JwtProvider jwtProvider;
+	private final RoutePolicyRegistry routePolicyRegistry;
 	private final UserDetailsServiceImpl userDetailsService;
 	private final AuthenticationConfiguration authenticationConfiguration;
 	private final RedisService redisService;
+	private final RefreshTokenNearCache refreshTokenNearCache;
+	private final TokenReissueService tokenReissueService;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final TokenVersionRegistry tokenVersionRegistry;
 	private final ObjectMapper objectMapper;
+	private final ErrorResponses errorResponses;
+	private final LoginRateLimiter loginRateLimiter;
+
+	@Value("${jwt.stateless-principal:false}")
+	private boolean statelessPrincipal;
+
+	/**
+	 * 비밀번호 암호화를 위한 인코더를 설정합니다. 해싱은 코어 수에 맞춘 전용 스레드에서 실행됩니다.
+	 *
+	 * <p>스레드 수를 지정하지 않으면 코어 하나를 남겨 로그인이 몰리는 동안에도 일반 API 요청이 CPU를 쓸 수
+	 * 있게 합니다. 해시 파라미터는 시작 시 목표 시간에 맞춰 정해지며, 지표를 등록할 수 있도록 구체 타입으로
+	 * 선언합니다.</p>
+	 *
+	 * @param properties  해싱 스레드 수, 대기열 크기, 기한 설정
+	 * @param calibration 측정된 해시 파라미터
+	 * @return BCrypt 또는 Argon2id를 사용하는 PasswordEncoder
+	 */
+	@Bean
+	public OffloadingPasswordEncoder passwordEncoder(PasswordHashingProperties properties,
+			PasswordHashingCalibration calibration) {
+		int poolSize = properties.getThreads() > 0
+				? properties.getThreads()
+				: Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		return new OffloadingPasswordEncoder(calibration.createEncoder(), poolSize,
+				properties.getQueueCapacity(), properties.getDeadline());
+	}
 
 	/**
-	 * 비밀번호 암호화를 위한 인코더를 설정합니다.
+	 * 로그인에 사용하는 인증 제공자를 설정합니다. 오래된 해시는 로그인에 성공하면 다시 저장하며, 해싱 스레드
+	 * 풀이 포화되어 다시 저장하지 못해도 로그인은 성공합니다.
 	 *
-	 * @return BCrypt 암호화 알고리즘을 사용하는 PasswordEncoder
+	 * @param passwordEncoder 비밀번호 인코더
+	 * @param calibration     측정된 해시 파라미터
+	 * @return 인증 제공자
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public RehashingAuthenticationProvider authenticationProvider(
+			OffloadingPasswordEncoder passwordEncoder, PasswordHashingCalibration calibration) {
+		RehashingAuthenticationProvider provider = new RehashingAuthenticationProvider(calibration);
+		provider.setUserDetailsService(userDetailsService);
+		provider.setUserDetailsPasswordService(userDetailsService);
+		provider.setPasswordEncoder(passwordEncoder);
+		return provider;
 	}
 
 	/**
@@ -105,7 +128,8 @@ public class WebSecurityConfig {
 	 */
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider, redisService);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider,
+				tokenVersionRegistry, redisService, loginRateLimiter, objectMapper, errorResponses);
 		filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
 		return filter;
 	}
@@ -118,10 +142,16 @@ public class WebSecurityConfig {
 	@Bean
 	public JwtAuthorizationFilter jwtAuthorizationFilter() {
 		return new JwtAuthorizationFilter(
+				routePolicyRegistry,
 				jwtProvider,
 				userDetailsService,
-				redisService,
-				objectMapper
+				tokenReissueService,
+				refreshTokenNearCache,
+				tokenStoreCircuitBreaker,
+				tokenVersionRegistry,
+				objectMapper,
+				errorResponses,
+				statelessPrincipal
 		);
 	}
 
@@ -163,9 +193,8 @@ public class WebSecurityConfig {
 		http.authorizeHttpRequests(auth -> auth
 				.requestMatchers(PathRequest.toStaticResources().atCommonLocations())
 				.permitAll()
-				.requestMatchers(SWAGGER_PATHS.toArray(String[]::new)).permitAll()
-				.requestMatchers(HttpMethod.POST, PERMIT_ALL_PATHS.toArray(String[]::new))
-				.permitAll()
+				.requestMatchers(routePolicyRegistry).permitAll()
+				.requestMatchers("/admin/**").hasAuthority(UserRole.MANAGER.getAuthority())
 				.anyRequest().authenticated()
 		);
 	}
@@ -178,8 +207,7 @@ public class WebSecurityConfig {
 	private void configureFilters(HttpSecurity http) throws Exception {
 		http.addFilterBefore(jwtAuthorizationFilter(), JwtAuthenticationFilter.class)
 				.addFilterBefore(jwtAuthenticationFilter(),
-						UsernamePasswordAuthenticationFilter.class)
-				.addFilterBefore(contentCachingFilter(), JwtAuthorizationFilter.class);
+						UsernamePasswordAuthenticationFilter.class);
 	}
 
 	/**
@@ -199,23 +227,4 @@ public class WebSecurityConfig {
 		source.registerCorsConfiguration("/**", configuration);
 		return source;
 	}
-
-	/**
-	 * 요청 내용을 캐싱하기 위한 필터를 구성합니다.
-	 *
-	 * @return 구성된 ContentCachingFilter
-	 */
-	@Bean
-	public OncePerRequestFilter contentCachingFilter() {
-		return new OncePerRequestFilter() {
-			@Override
-			protected void doFilterInternal(HttpServletRequest request,
-					HttpServletResponse response,
-					FilterChain filterChain) throws ServletException, IOException {
-				ContentCachingRequestWrapper wrappingRequest = new ContentCachingRequestWrapper(
-						request);
-				filterChain.doFilter(wrappingRequest, response);
-			}
-		};
-	}
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.donut.swaipe.domain.auth.controller;
+
+import com.donut.swaipe.domain.auth.dto.SessionRevocationRequestDto;
+import com.donut.swaipe.domain.auth.dto.SessionRevocationStatusDto;
+import com.donut.swaipe.domain.auth.service.SessionRevocationService;
+import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.security.details.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자용 세션 일괄 폐기 API를 제공하는 컨트롤러입니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/sessions/revocations")
+@Tag(name = "Admin Session", description = "Admin session revocation API")
+public class AdminSessionController {
+
+	private final SessionRevocationService sessionRevocationService;
+
+	@PostMapping
+	@Operation(summary = "revoke sessions", description = "bulk revoke refresh tokens")
+	public ApiResponse<SessionRevocationStatusDto> revoke(
+			@AuthenticationPrincipal UserDetailsImpl userDetails,
+			@RequestBody @Valid SessionRevocationRequestDto requestDto) {
+		return sessionRevocationService.startRevocation(userDetails, requestDto);
+	}
+
+	@GetMapping("/{jobId}")
+	@Operation(summary = "revocation status", description = "bulk revocation progress")
+	public ApiResponse<SessionRevocationStatusDto> status(
+			@AuthenticationPrincipal UserDetailsImpl userDetails,
+			@PathVariable String jobId) {
+		return sessionRevocationService.getStatus(userDetails, jobId);
+	}
+}
@@ -0,0 +1,43 @@
+package com.donut.swaipe.domain.auth.controller;
+
+import com.donut.swaipe.global.security.jwt.JwtKeyRing;
+import com.donut.swaipe.global.security.route.PublicEndpoint;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 토큰 검증용 공개키를 JWK Set으로 제공하는 컨트롤러입니다. 다른 서비스는 이 키로 토큰을 직접
+ * 검증할 수 있습니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController
+@Tag(name = "JWKS", description = "JWT 검증 공개키 API")
+public class JwksController {
+
+	public static final String JWKS_PATH = "/.well-known/jwks.json";
+	private static final long MAX_AGE_MINUTES = 5;
+
+	private final Map<String, Object> jwkSet;
+
+	public JwksController(JwtKeyRing keyRing) {
+		this.jwkSet = keyRing.toJwkSet();
+	}
+
+	@PublicEndpoint
+	@GetMapping(JWKS_PATH)
+	@Operation(summary = "jwks", description = "JWT 검증 공개키 목록")
+	public ResponseEntity<Map<String, Object>> jwks() {
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.maxAge(MAX_AGE_MINUTES, TimeUnit.MINUTES).cachePublic())
+				.body(jwkSet);
+	}
+}
@@ -0,0 +1,33 @@
+package com.donut.swaipe.domain.auth.controller;
+
+import com.donut.swaipe.domain.auth.dto.VerifiedPrincipalDto;
+import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.security.details.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 인가 필터를 통과한 토큰의 인가 주체를 돌려주는 컨트롤러입니다. 앞단 프록시의 인증 서브 요청으로 사용할 수
+ * 있으며, 인증 게이트웨이 모듈의 같은 경로와 응답 형식이 같습니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController
+@Tag(name = "Auth", description = "토큰 검증 API")
+public class TokenVerifyController {
+
+	@GetMapping("/auth/verify")
+	@Operation(summary = "verify", description = "verify access token")
+	public ApiResponse<VerifiedPrincipalDto> verify(
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return ApiResponse.success(MessageCode.SUCCESS, new VerifiedPrincipalDto(
+				userDetails.getUsername(), userDetails.getUserRole(), userDetails.getId(),
+				userDetails.getNickname()));
+	}
+}
@@ -0,0 +1,41 @@
+package com.donut.swaipe.domain.auth.dto;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionRevocationRequestDto {
+
+    public enum Target {
+        ALL,
+        ROLE,
+        USERS
+    }
+
+    @NotNull(message = "폐기 대상은 필수 입력값입니다.")
+    private Target target;
+
+    // target이 ROLE인 경우 사용
+    private UserRole role;
+
+    // target이 USERS인 경우 사용
+    private List<String> usernames;
+
+    @AssertTrue(message = "폐기 대상에 맞는 역할 또는 사용자 목록이 필요합니다.")
+    public boolean isTargetSpecified() {
+        if (target == Target.ROLE) {
+            return role != null;
+        }
+        if (target == Target.USERS) {
+            return usernames != null && !usernames.isEmpty();
+        }
+        return true;
+    }
+}
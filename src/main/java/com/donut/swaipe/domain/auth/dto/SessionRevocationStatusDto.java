@@ -0,0 +1,23 @@
+package com.donut.swaipe.domain.auth.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SessionRevocationStatusDto {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String jobId;
+    private Status status;
+    private long scanned;
+    private long revoked;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,14 @@
+package com.donut.swaipe.domain.auth.dto;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedPrincipalDto {
+    private String username;
+    private UserRole role;
+    private Long userId;
+    private String nickname;
+}
@@ -3,16 +3,23 @@ package com.donut.swaipe.domain.auth.service;
 import com.donut.swaipe.domain.auth.dto.TokenDto;
 import com.donut.swaipe.domain.auth.dto.TokenRequestDto;
 import com.donut.swaipe.domain.user.dto.SignOutRequestDto;
-import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.domain.user.entity.User;
 import com.donut.swaipe.domain.user.repository.UserRepository;
 import com.donut.swaipe.domain.user.service.RedisService;
+import com.donut.swaipe.domain.user.service.StoredRefreshToken;
 import com.donut.swaipe.global.common.ApiResponse;
 import com.donut.swaipe.global.common.MessageCode;
 import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.exception.auth.PasswordHashingBusyException;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
 import com.donut.swaipe.global.exception.user.LogoutFailedException;
 import com.donut.swaipe.global.exception.user.SignOutFailedException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.details.PrincipalCache;
 import com.donut.swaipe.global.security.details.UserDetailsImpl;
 import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,8 +43,11 @@ public class AuthService {
 	private final AuthenticationManager authenticationManager;
 	private final JwtProvider jwtProvider;
 	private final RedisService redisService;
+	private final TokenReissueService tokenReissueService;
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final PrincipalCache principalCache;
+	private final TokenVersionRegistry tokenVersionRegistry;
 
 	/**
 	 * 토큰을 재발급합니다.
@@ -51,43 +61,38 @@ public class AuthService {
 
 		try {
 			// 액세스 토큰에서 사용자 정보 추출
-			String username = jwtProvider.getUsernameFromToken(token);
-
-			// Redis에서 해당 사용자의 리프레시 토큰 조회
-			String refreshToken = redisService.getRefreshToken(username);
-			if (refreshToken == null) {
-				throw new InvalidTokenException();
+			VerifiedToken accessToken = jwtProvider.verify(token);
+			if (accessToken.isInvalid() || tokenVersionRegistry.isRevoked(accessToken)) {
+				throw InvalidTokenException.INSTANCE;
 			}
+			String username = accessToken.getSubject();
 
-			// 리프레시 토큰 검증
-			if (!jwtProvider.validateToken(refreshToken)) {
-				throw new InvalidTokenException();
+			// Redis에서 해당 사용자의 리프레시 토큰 레코드 조회 (없거나 만료된 경우 null)
+			StoredRefreshToken refreshToken = redisService.getStoredRefreshToken(username);
+			if (refreshToken == null) {
+				throw InvalidTokenException.INSTANCE;
 			}
 
-			UserRole role = jwtProvider.getRoleFromToken(refreshToken);
-
-			// 새로운 토큰 발급
-			String newAccessToken = jwtProvider.createAccessToken(username, role);
-			String newRefreshToken = jwtProvider.createRefreshToken(username, role);
-
-			// 새로운 리프레시 토큰을 Redis에 저장
-			redisService.saveRefreshToken(username, newRefreshToken);
-
-			log.info("토큰 재발급 성공: username={}", username);
-			return ApiResponse.success(MessageCode.REGENERATE_TOKEN, new TokenDto(newAccessToken));
+			// 새로운 토큰 발급 (폐기 여부는 Redis의 토큰 버전으로 다시 확인하며, 같은 액세스 토큰으로 들어온
+			// 동시 요청은 하나로 합쳐짐)
+			TokenDto newTokens = tokenReissueService.reissue(token, accessToken, refreshToken);
+			return ApiResponse.success(MessageCode.REGENERATE_TOKEN, newTokens);
+		} catch (TokenStoreUnavailableException e) {
+			log.error("토큰 재발급 실패 (저장소 사용 불가): {}", e.getMessage());
+			throw e;
 		} catch (Exception e) {
 			log.error("토큰 재발급 실패: {}", e.getMessage());
-			throw new InvalidTokenException();
+			throw InvalidTokenException.INSTANCE;
 		}
 	}
 
 	public ApiResponse<Void> logout(UserDetailsImpl userDetails) {
 		String username = userDetails.getUsername();
-		log.info("로그아웃 처리 시작: username={}", username);
+		log.info(LogEvents.SECURITY, "로그아웃 처리 시작: username={}", username);
 
 		try {
-			// 중복 호출 제거
-			boolean isDeleted = redisService.deleteRefreshToken(username);
+			// 토큰 버전을 올려 이미 발급된 액세스 토큰도 모든 노드에서 거절되도록 합니다
+			boolean isDeleted = redisService.revokeSessions(username);
 			if (!isDeleted) {
 				log.warn("Refresh token not found for user: {}", username);
 			}
@@ -95,31 +100,34 @@ public class AuthService {
 			return ApiResponse.success(MessageCode.LOGOUT_SUCCESS, null);
 		} catch (Exception e) {
 			log.error("로그아웃 처리 중 오류 발생: {}", e.getMessage());
-			throw new LogoutFailedException();
+			throw LogoutFailedException.INSTANCE;
 		}
 	}
 
 	@Transactional
 	public ApiResponse<Void> signOut(UserDetailsImpl userDetails, SignOutRequestDto requestDto) {
 		String username = userDetails.getUsername();
-		log.info("회원탈퇴 처리 시작: username={}", username);
+		log.info(LogEvents.SECURITY, "회원탈퇴 처리 시작: username={}", username);
 
 		try {
 			// 리프레시 토큰 확인
 			String refreshToken = redisService.getRefreshToken(username);
 			if (refreshToken == null) {
 				log.info("이미 로그아웃된 사용자입니다.");
-				throw new SignOutFailedException();
+				throw SignOutFailedException.INSTANCE;
 			}
 
-			// 비밀번호 검증
-			if (!passwordEncoder.matches(requestDto.getPassword(), userDetails.getPassword())) {
+			// 비밀번호 검증 (토큰 기반 인가 주체는 비밀번호 해시가 없으므로 DB에서 조회)
+			String encodedPassword = userRepository.findByUsername(username)
+					.map(User::getPassword)
+					.orElseThrow(() -> SignOutFailedException.INSTANCE);
+			if (!passwordEncoder.matches(requestDto.getPassword(), encodedPassword)) {
 				log.info("비밀번호가 일치하지 않습니다.");
-				throw new SignOutFailedException();
+				throw SignOutFailedException.INSTANCE;
 			}
 
-			// Redis에서 리프레시 토큰 삭제
-			boolean tokenDeleted = redisService.deleteRefreshToken(username);
+			// Redis에서 리프레시 토큰 삭제 및 발급된 액세스 토큰 폐기
+			boolean tokenDeleted = redisService.revokeSessions(username);
 			if (!tokenDeleted) {
 				log.warn("Refresh token not found for user: {}", username);
 			}
@@ -128,17 +136,18 @@ public class AuthService {
 			int deletedCount = userRepository.deleteByUsername(username);
 			if (deletedCount == 0) {
 				log.info("사용자 정보를 찾을 수 없습니다.");
-				throw new SignOutFailedException();
+				throw SignOutFailedException.INSTANCE;
 			}
+			principalCache.invalidateAfterCommit(username);
 
 			SecurityContextHolder.clearContext();
 			return ApiResponse.success(MessageCode.SIGNOUT_SUCCESS, null);
-		} catch (SignOutFailedException e) {
+		} catch (SignOutFailedException | PasswordHashingBusyException e) {
 			throw e;
 		} catch (Exception e) {
 			log.error("회원탈퇴 처리 중 오류 발생: {}", e.getMessage());
 			log.info("회원탈퇴 처리 중 오류가 발생했습니다.");
-			throw new SignOutFailedException();
+			throw SignOutFailedException.INSTANCE;
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,346 @@
+package com.donut.swaipe.domain.auth.service;
+
+import com.donut.swaipe.domain.auth.dto.SessionRevocationRequestDto;
+import com.donut.swaipe.domain.auth.dto.SessionRevocationStatusDto;
+import com.donut.swaipe.domain.auth.dto.SessionRevocationStatusDto.Status;
+import com.donut.swaipe.domain.user.repository.UserRepository;
+import com.donut.swaipe.domain.user.service.RedisService;
+import com.donut.swaipe.domain.user.service.UserValidator;
+import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.auth.RevocationJobNotFoundException;
+import com.donut.swaipe.global.exception.auth.RevocationJobRejectedException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.details.UserDetailsImpl;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedTokenCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리프레시 토큰을 일괄 폐기하는 관리자용 서비스입니다. 전체 사용자, 특정 역할, 지정한 사용자 목록 단위로
+ * 세션을 폐기합니다.
+ *
+ * <p>작업은 요청 스레드가 아닌 전용 스레드에서 비동기로 실행되며 진행 상황은 작업 ID로 조회합니다. Redis를
+ * 막지 않도록 다음 원칙을 따릅니다:</p>
+ * <ul>
+ *   <li>키 탐색은 KEYS 대신 커서 기반 SCAN으로 나누어 수행</li>
+ *   <li>삭제는 메모리 회수를 백그라운드로 넘기는 UNLINK를 배치 단위로 파이프라이닝</li>
+ *   <li>역할이나 사용자 단위 폐기는 토큰 버전도 함께 올려 발급된 액세스 토큰까지 즉시 거절</li>
+ *   <li>배치 사이에 짧은 휴지 시간을 두어 실시간 트래픽의 지연 시간 급증을 방지</li>
+ *   <li>동시에 실행되는 작업 수와 대기열 크기를 제한하여 초과 요청은 즉시 거절</li>
+ * </ul>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class SessionRevocationService {
+
+	private static final String REFRESH_TOKEN_PREFIX = "RT:";
+	private static final RedisSerializer<String> KEY_SERIALIZER = RedisSerializer.string();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisService redisService;
+	private final UserRepository userRepository;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final UserValidator userValidator;
+	private final int batchSize;
+	private final int keysPerCommand;
+	private final Duration pauseBetweenBatches;
+	private final ThreadPoolExecutor executor;
+	private final Cache<String, RevocationJob> jobs;
+	private final byte[] revokeScript;
+
+	public SessionRevocationService(RedisTemplate<String, String> redisTemplate,
+			RedisService redisService,
+			UserRepository userRepository,
+			VerifiedTokenCache verifiedTokenCache,
+			UserValidator userValidator,
+			@Value("${session-revocation.batch-size:1000}") int batchSize,
+			@Value("${session-revocation.keys-per-command:100}") int keysPerCommand,
+			@Value("${session-revocation.pause-between-batches:10ms}") Duration pauseBetweenBatches,
+			@Value("${session-revocation.max-concurrent-jobs:1}") int maxConcurrentJobs,
+			@Value("${session-revocation.queue-capacity:4}") int queueCapacity,
+			@Value("${session-revocation.job-retention:1h}") Duration jobRetention) {
+		this.redisTemplate = redisTemplate;
+		this.redisService = redisService;
+		this.revokeScript = readScript("redis/session-revoke.lua");
+		this.userRepository = userRepository;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.userValidator = userValidator;
+		this.batchSize = batchSize;
+		this.keysPerCommand = keysPerCommand;
+		this.pauseBetweenBatches = pauseBetweenBatches;
+		this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs,
+				0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+				new RevocationThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		this.jobs = Caffeine.newBuilder()
+				.expireAfterWrite(jobRetention)
+				.build();
+	}
+
+	/**
+	 * 세션 일괄 폐기 작업을 시작합니다.
+	 *
+	 * @param admin      요청한 관리자
+	 * @param requestDto 폐기 대상 정보
+	 * @return 시작된 작업의 상태
+	 * @throws RevocationJobRejectedException 실행 중이거나 대기 중인 작업이 너무 많은 경우
+	 */
+	public ApiResponse<SessionRevocationStatusDto> startRevocation(UserDetailsImpl admin,
+			SessionRevocationRequestDto requestDto) {
+		userValidator.validateAdminRole(admin);
+
+		RevocationJob job = new RevocationJob(UUID.randomUUID().toString());
+		jobs.put(job.id, job);
+
+		try {
+			executor.execute(() -> run(job, requestDto));
+		} catch (RejectedExecutionException e) {
+			jobs.invalidate(job.id);
+			log.warn("세션 일괄 폐기 작업 거절: admin={}, target={}", admin.getUsername(),
+					requestDto.getTarget());
+			throw RevocationJobRejectedException.INSTANCE;
+		}
+
+		log.info(LogEvents.SECURITY, "세션 일괄 폐기 작업 시작: jobId={}, admin={}, target={}", job.id,
+				admin.getUsername(), requestDto.getTarget());
+		return ApiResponse.success(MessageCode.REVOCATION_JOB_STARTED, job.toDto());
+	}
+
+	/**
+	 * 세션 일괄 폐기 작업의 진행 상황을 조회합니다.
+	 *
+	 * @param admin 요청한 관리자
+	 * @param jobId 작업 ID
+	 * @return 작업 상태
+	 * @throws RevocationJobNotFoundException 작업이 없거나 보관 기간이 지난 경우
+	 */
+	public ApiResponse<SessionRevocationStatusDto> getStatus(UserDetailsImpl admin, String jobId) {
+		userValidator.validateAdminRole(admin);
+
+		RevocationJob job = jobs.getIfPresent(jobId);
+		if (job == null) {
+			throw RevocationJobNotFoundException.INSTANCE;
+		}
+		return ApiResponse.success(MessageCode.REVOCATION_JOB_STATUS, job.toDto());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static byte[] readScript(String path) {
+		try {
+			return new ClassPathResource(path).getContentAsByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void run(RevocationJob job, SessionRevocationRequestDto requestDto) {
+		try {
+			switch (requestDto.getTarget()) {
+				case ALL -> revokeAll(job);
+				case ROLE -> revokeByRole(job, requestDto);
+				case USERS -> revokeUsers(job, requestDto.getUsernames());
+			}
+			job.finish(Status.COMPLETED);
+			log.info(LogEvents.SECURITY, "세션 일괄 폐기 작업 완료: jobId={}, scanned={}, revoked={}", job.id,
+					job.scanned.get(), job.revoked.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			job.finish(Status.FAILED);
+			log.warn("세션 일괄 폐기 작업 중단: jobId={}", job.id);
+		} catch (Exception e) {
+			job.finish(Status.FAILED);
+			log.error("세션 일괄 폐기 작업 실패: jobId={}, error={}", job.id, e.getMessage());
+		}
+	}
+
+	/**
+	 * 모든 리프레시 토큰 키를 SCAN으로 순회하며 배치 단위로 삭제합니다.
+	 */
+	private void revokeAll(RevocationJob job) throws InterruptedException {
+		ScanOptions options = ScanOptions.scanOptions()
+				.match(REFRESH_TOKEN_PREFIX + "*")
+				.count(batchSize)
+				.build();
+
+		List<String> batch = new ArrayList<>(batchSize);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() >= batchSize) {
+					flush(job, batch);
+					batch.clear();
+				}
+			}
+		}
+		flush(job, batch);
+		redisService.revokeAllSessions();
+	}
+
+	/**
+	 * 역할에 속한 사용자 이름을 페이지 단위로 조회하여 해당 키만 삭제합니다.
+	 */
+	private void revokeByRole(RevocationJob job, SessionRevocationRequestDto requestDto)
+			throws InterruptedException {
+		Pageable pageable = PageRequest.of(0, batchSize, Sort.by("id"));
+		Slice<String> usernames;
+		do {
+			usernames = userRepository.findUsernamesByUserRole(requestDto.getRole(), pageable);
+			revokeUsers(job, usernames.getContent());
+			pageable = usernames.nextPageable();
+		} while (usernames.hasNext());
+	}
+
+	/**
+	 * 사용자별 세션 폐기 스크립트(토큰 버전 증가, 리프레시 토큰 삭제, 변경 알림)를 배치 단위로
+	 * 파이프라이닝합니다.
+	 */
+	private void revokeUsers(RevocationJob job, List<String> usernames)
+			throws InterruptedException {
+		byte[] versionKey = KEY_SERIALIZER.serialize(TokenVersionRegistry.VERSION_KEY);
+		byte[] recentKey = KEY_SERIALIZER.serialize(TokenVersionRegistry.RECENT_KEY);
+		byte[] channel = KEY_SERIALIZER.serialize(TokenVersionRegistry.CHANNEL);
+		byte[] retention = KEY_SERIALIZER.serialize(
+				String.valueOf(TokenVersionRegistry.RETENTION_MILLIS));
+
+		for (int from = 0; from < usernames.size(); from += batchSize) {
+			List<String> page = usernames.subList(from, Math.min(from + batchSize, usernames.size()));
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				RedisScriptingCommands scripting = connection.scriptingCommands();
+				for (String username : page) {
+					scripting.eval(revokeScript, ReturnType.MULTI, 3, versionKey,
+							KEY_SERIALIZER.serialize(REFRESH_TOKEN_PREFIX + username), recentKey,
+							KEY_SERIALIZER.serialize(username), channel, retention);
+				}
+				return null;
+			});
+
+			long revoked = 0;
+			for (Object result : results) {
+				if (result instanceof List<?> reply && reply.size() > 1
+						&& reply.get(1) instanceof Long deleted) {
+					revoked += deleted;
+				}
+			}
+			page.forEach(verifiedTokenCache::invalidateSubject);
+			record(job, page.size(), revoked);
+		}
+	}
+
+	/**
+	 * 한 배치의 키를 여러 개의 UNLINK 명령으로 나누어 하나의 파이프라인으로 전송합니다.
+	 */
+	private void flush(RevocationJob job, List<String> keys) throws InterruptedException {
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			RedisKeyCommands keyCommands = connection.keyCommands();
+			for (int from = 0; from < keys.size(); from += keysPerCommand) {
+				List<String> chunk = keys.subList(from, Math.min(from + keysPerCommand, keys.size()));
+				byte[][] rawKeys = new byte[chunk.size()][];
+				for (int i = 0; i < rawKeys.length; i++) {
+					rawKeys[i] = KEY_SERIALIZER.serialize(chunk.get(i));
+				}
+				keyCommands.unlink(rawKeys);
+			}
+			return null;
+		});
+
+		long revoked = 0;
+		for (Object result : results) {
+			if (result instanceof Long count) {
+				revoked += count;
+			}
+		}
+		record(job, keys.size(), revoked);
+	}
+
+	/**
+	 * 배치 처리 결과를 기록하고, 실시간 트래픽을 위해 다음 배치 전에 잠시 쉽니다.
+	 */
+	private void record(RevocationJob job, long scanned, long revoked) throws InterruptedException {
+		job.scanned.addAndGet(scanned);
+		job.revoked.addAndGet(revoked);
+
+		if (!pauseBetweenBatches.isZero()) {
+			Thread.sleep(pauseBetweenBatches.toMillis());
+		}
+	}
+
+	private static final class RevocationJob {
+
+		private final String id;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final AtomicLong scanned = new AtomicLong();
+		private final AtomicLong revoked = new AtomicLong();
+		private volatile Status status = Status.RUNNING;
+		private volatile LocalDateTime finishedAt;
+
+		private RevocationJob(String id) {
+			this.id = id;
+		}
+
+		private void finish(Status status) {
+			this.finishedAt = LocalDateTime.now();
+			this.status = status;
+		}
+
+		private SessionRevocationStatusDto toDto() {
+			return new SessionRevocationStatusDto(id, status, scanned.get(), revoked.get(),
+					startedAt, finishedAt);
+		}
+	}
+
+	private static final class RevocationThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "session-revocation-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package com.donut.swaipe.domain.auth.service;
+
+import com.donut.swaipe.domain.auth.dto.TokenDto;
+import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.domain.user.service.RedisService;
+import com.donut.swaipe.domain.user.service.StoredRefreshToken;
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
+import com.donut.swaipe.global.exception.CustomException;
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 액세스 토큰 재발급을 담당하는 서비스입니다.
+ *
+ * <p>같은 사용자가 만료된 액세스 토큰으로 동시에 여러 요청을 보내면, 제시된 액세스 토큰별로 재발급을 한
+ * 번만 수행하고 모든 요청에 같은 결과를 돌려줍니다. 리프레시 토큰 세대로 묶으면 교체 직후 새 레코드를 읽은
+ * 요청이 새 세대를 다시 교체하게 되므로 세대가 아닌 요청 토큰을 기준으로 합니다.</p>
+ * <ul>
+ *   <li>노드 안에서는 진행 중인 재발급을 {@link CompletableFuture}로 공유합니다.</li>
+ *   <li>노드 사이에서는 Redis 스크립트로 재발급을 선점하고, 선점한 요청만 토큰을 서명하고 저장합니다.
+ *   나머지 요청은 선점한 요청이 저장한 액세스 토큰을 유예 시간 안에 받아갑니다.</li>
+ * </ul>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class TokenReissueService {
+
+	private static final String PENDING = "~pending";
+	private static final String CLAIMED = "~claimed";
+
+	private final JwtProvider jwtProvider;
+	private final TokenVersionRegistry tokenVersionRegistry;
+	private final RedisService redisService;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final Duration claimTtl;
+	private final Duration gracePeriod;
+	private final Duration pollInterval;
+	private final ConcurrentMap<String, CompletableFuture<TokenDto>> inFlight =
+			new ConcurrentHashMap<>();
+
+	public TokenReissueService(JwtProvider jwtProvider, TokenVersionRegistry tokenVersionRegistry,
+			RedisService redisService, TokenStoreCircuitBreaker tokenStoreCircuitBreaker,
+			@Value("${token-reissue.claim-ttl:3s}") Duration claimTtl,
+			@Value("${token-reissue.grace-period:10s}") Duration gracePeriod,
+			@Value("${token-reissue.poll-interval:25ms}") Duration pollInterval) {
+		this.jwtProvider = jwtProvider;
+		this.tokenVersionRegistry = tokenVersionRegistry;
+		this.redisService = redisService;
+		this.tokenStoreCircuitBreaker = tokenStoreCircuitBreaker;
+		this.claimTtl = claimTtl;
+		this.gracePeriod = gracePeriod;
+		this.pollInterval = pollInterval;
+	}
+
+	/**
+	 * 저장된 리프레시 토큰 레코드로 새 액세스 토큰을 발급합니다. 같은 액세스 토큰으로 들어온 동시 요청은
+	 * 노드 안팎에서 하나로 합쳐지며, 교체가 끝난 뒤 도착한 요청도 유예 시간 동안 같은 결과를 돌려받습니다.
+	 * 제시된 액세스 토큰이 폐기되었는지는 선점 스크립트가 Redis의 토큰 버전으로 확인합니다.
+	 *
+	 * @param presentedToken 재발급을 요청한 액세스 토큰 원문
+	 * @param presented      서명 검증을 통과한 같은 토큰
+	 * @param current        저장된 리프레시 토큰 레코드
+	 * @return 새 액세스 토큰
+	 * @throws InvalidTokenException 폐기된 토큰이거나, 이미 다른 세대로 교체되었거나, 재발급 결과를 받지
+	 *                               못한 경우
+	 */
+	public TokenDto reissue(String presentedToken, VerifiedToken presented,
+			StoredRefreshToken current) {
+		CompletableFuture<TokenDto> flight = new CompletableFuture<>();
+		CompletableFuture<TokenDto> existing = inFlight.putIfAbsent(presentedToken, flight);
+		if (existing != null) {
+			return await(existing);
+		}
+
+		try {
+			TokenDto result = reissueAcrossNodes(presentedToken, presented, current);
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(presentedToken, flight);
+		}
+	}
+
+	/**
+	 * 저장소를 사용할 수 없는 동안 만료된 액세스 토큰의 클레임으로 새 토큰을 발급하고, 리프레시 토큰
+	 * 교체는 저장소 복구 후로 미룹니다.
+	 *
+	 * <p>세션을 확인할 수 없으므로 만료된 지 재발급 허용 시간 이내인 토큰만 받아들입니다. 오래전에 만료되었거나
+	 * 유출된 토큰이 새 세션으로 바뀌지 않도록 하기 위함입니다.</p>
+	 *
+	 * @param expiredToken 서명이 올바른 만료된 액세스 토큰
+	 * @return 새 액세스 토큰, 허용 시간을 넘겼거나 교체를 미룰 수 없는 경우 null
+	 */
+	public TokenDto reissueDeferred(VerifiedToken expiredToken) {
+		UserRole role = expiredToken.getRole();
+		if (role == null || !expiredToken.isExpired()) {
+			return null;
+		}
+		long expiredFor = System.currentTimeMillis() - expiredToken.getExpiration();
+		if (expiredFor > tokenStoreCircuitBreaker.getReissueGraceMillis()) {
+			log.warn("토큰 저장소 저하 모드: 만료 후 허용 시간을 넘긴 토큰의 재발급 거절 username={}",
+					expiredToken.getSubject());
+			return null;
+		}
+
+		String username = expiredToken.getSubject();
+		long issuedAt = System.currentTimeMillis();
+		int version = tokenVersionRegistry.mintVersion(username);
+		String newAccessToken = jwtProvider.createAccessToken(username, role,
+				expiredToken.getUserId(), expiredToken.getNickname(), version);
+		String newRefreshToken = jwtProvider.createRefreshToken(username, role,
+				expiredToken.getUserId(), expiredToken.getNickname(), version);
+
+		if (!tokenStoreCircuitBreaker.deferRotation(() ->
+				redisService.completeDeferredRotation(username, newRefreshToken, issuedAt))) {
+			return null;
+		}
+		log.warn("토큰 저장소 저하 모드: 리프레시 토큰 교체를 복구 후로 미룸 username={}", username);
+		return new TokenDto(newAccessToken);
+	}
+
+	private TokenDto reissueAcrossNodes(String presentedToken, VerifiedToken presented,
+			StoredRefreshToken current) {
+		String username = presented.getSubject();
+		String claim = redisService.claimReissue(presentedToken, presented, current, PENDING,
+				claimTtl);
+		if (claim == null) {
+			throw InvalidTokenException.INSTANCE;
+		}
+		if (CLAIMED.equals(claim)) {
+			return mintAndRotate(username, presentedToken, current);
+		}
+		if (!PENDING.equals(claim)) {
+			log.info(LogEvents.TOKEN_REISSUED, "다른 요청이 재발급한 토큰 공유: username={}", username);
+			return new TokenDto(claim);
+		}
+		return pollResult(username, presentedToken);
+	}
+
+	private TokenDto mintAndRotate(String username, String presentedToken,
+			StoredRefreshToken current) {
+		UserRole role = current.getRole();
+		int version = tokenVersionRegistry.mintVersion(username);
+		String newAccessToken = jwtProvider.createAccessToken(username, role,
+				current.getUserId(), current.getNickname(), version);
+		String newRefreshToken = jwtProvider.createRefreshToken(username, role,
+				current.getUserId(), current.getNickname(), version);
+
+		if (!redisService.rotateRefreshToken(username, current, newRefreshToken, presentedToken,
+				newAccessToken, gracePeriod)) {
+			throw InvalidTokenException.INSTANCE;
+		}
+		log.info(LogEvents.TOKEN_REISSUED, "토큰 재발급 성공: username={}", username);
+		return new TokenDto(newAccessToken);
+	}
+
+	private TokenDto pollResult(String username, String presentedToken) {
+		long deadline = System.nanoTime() + claimTtl.toNanos();
+		while (System.nanoTime() < deadline) {
+			try {
+				Thread.sleep(pollInterval.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			String result = redisService.getReissueResult(username, presentedToken);
+			if (result == null) {
+				break;
+			}
+			if (!PENDING.equals(result)) {
+				return new TokenDto(result);
+			}
+		}
+		log.warn("다른 요청의 재발급 결과를 받지 못함: username={}", username);
+		throw InvalidTokenException.INSTANCE;
+	}
+
+	private TokenDto await(CompletableFuture<TokenDto> flight) {
+		try {
+			return flight.get(claimTtl.toMillis() + pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CustomException customException) {
+				throw customException;
+			}
+			throw InvalidTokenException.INSTANCE;
+		} catch (TimeoutException e) {
+			throw InvalidTokenException.INSTANCE;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw InvalidTokenException.INSTANCE;
+		}
+	}
+}
@@ -18,6 +18,7 @@ import com.donut.swaipe.domain.user.service.UserService;
 import com.donut.swaipe.global.common.ApiResponse;
 import com.donut.swaipe.global.security.details.UserDetailsImpl;
 import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.route.PublicEndpoint;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,12 +37,14 @@ public class UserController {
 	private final AuthService authService;
 	private final JwtProvider jwtProvider;
 
+	@PublicEndpoint
 	@PostMapping
 	@Operation(summary = "signup", description = "sign up api")
 	public ApiResponse<SignupResponseDto> signup(@RequestBody SignUpRequestDto signupRequestDto) {
 		return userService.signup(signupRequestDto);
 	}
 
+	@PublicEndpoint
 	@PostMapping("/refresh")
 	@Operation(summary = "refresh", description = "refresh access token")
 	public ApiResponse<TokenDto> refresh(@RequestBody @Valid TokenRequestDto requestDto) {
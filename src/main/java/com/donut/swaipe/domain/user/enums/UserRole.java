@@ -4,12 +4,32 @@ import lombok.Getter;
 
 @Getter
 public enum UserRole{
-    USER("ROLE_USER"),
-    MANAGER("ROLE_MANAGER");
+    USER("ROLE_USER", 0),
+    MANAGER("ROLE_MANAGER", 1);
 
     private final String authority;
+    /**
+     * 저장 형식에 쓰이는 고정 코드입니다. 선언 순서와 무관하며, 한 번 정한 값은 바꾸거나 재사용하지 않습니다.
+     */
+    private final int code;
 
-    UserRole(String authority) {
+    UserRole(String authority, int code) {
         this.authority = authority;
+        this.code = code;
+    }
+
+    /**
+     * 고정 코드에 해당하는 권한을 찾습니다.
+     *
+     * @param code 권한 코드
+     * @return 권한, 알 수 없는 코드이면 null
+     */
+    public static UserRole fromCode(int code) {
+        for (UserRole role : values()) {
+            if (role.code == code) {
+                return role;
+            }
+        }
+        return null;
     }
 }
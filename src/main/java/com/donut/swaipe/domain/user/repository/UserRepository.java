@@ -2,12 +2,16 @@ package com.donut.swaipe.domain.user.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.donut.swaipe.domain.user.entity.User;
+import com.donut.swaipe.domain.user.enums.UserRole;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
@@ -15,5 +19,8 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
 	Optional<User> findByUsername(String username);
 	boolean existsByUsername(String username);
 	boolean existsByNickname(String nickname);
+
+	@Query("select u.username from User u where u.userRole = :role")
+	Slice<String> findUsernamesByUserRole(@Param("role") UserRole role, Pageable pageable);
 }
 
@@ -2,27 +2,45 @@ package com.donut.swaipe.domain.user.service;
 
 import static com.donut.swaipe.global.security.jwt.JwtProvider.REFRESH_TOKEN_TIME;
 
+import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import com.donut.swaipe.global.security.jwt.VerifiedTokenCache;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 /**
- * Redis를 활용한 리프레시 토큰 관리 서비스입니다. 토큰의 저장, 조회, 삭제, 검증 기능을 제공합니다.
+ * Redis를 활용한 리프레시 토큰 관리 서비스입니다. 토큰의 저장, 조회, 교체, 세션 폐기 기능을 제공합니다.
  *
  * <p>이 서비스는 다음과 같은 주요 기능을 제공합니다:</p>
  * <ul>
  *   <li>리프레시 토큰 저장</li>
  *   <li>리프레시 토큰 조회</li>
- *   <li>리프레시 토큰 삭제</li>
- *   <li>리프레시 토큰 유효성 검증</li>
+ *   <li>리프레시 토큰 원자적 교체 (compare-and-swap)</li>
+ *   <li>세션 폐기 (토큰 버전 증가와 리프레시 토큰 삭제)</li>
  * </ul>
  *
+ * <p>토큰 원문은 저장하지 않고 {@link RefreshTokenCodec}이 만든 다이제스트 레코드만 저장합니다.</p>
+ *
+ * <p>조회와 교체는 {@link TokenStoreCircuitBreaker}를 거치므로 Redis가 느리거나 응답하지 않으면 제한
+ * 시간을 기다리지 않고 {@link TokenStoreUnavailableException}으로 즉시 실패합니다.</p>
+ *
+ * <p>모든 작업은 Redis 왕복 한 번으로 처리됩니다. 교체는 서버 측 Lua 스크립트(EVALSHA)로 수행되어 같은
+ * 토큰으로 동시에 재발급을 요청해도 하나만 성공합니다.</p>
+ *
  * @author donut
- * @version 1.1
+ * @version 1.3
  * @since 2024-01-19
  */
 @Slf4j
@@ -31,25 +49,44 @@ import org.springframework.stereotype.Service;
 public class RedisService {
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final RefreshTokenCodec refreshTokenCodec;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final TokenVersionRegistry tokenVersionRegistry;
 	private static final String REFRESH_TOKEN_PREFIX = "RT:";
+	private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/refresh-token-rotate.lua"), Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> REVOKE_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/session-revoke.lua"), List.class);
+	private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/session-revoke-all.lua"), Long.class);
+	private static final String REISSUE_PREFIX = "RI:";
+	private static final RedisScript<String> REISSUE_CLAIM_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/refresh-token-reissue-claim.lua"), String.class);
 
 	/**
-	 * 리프레시 토큰을 Redis에 저장합니다. 토큰은 설정된 만료 시간(REFRESH_TOKEN_TIME)과 함께 저장됩니다.
+	 * 리프레시 토큰을 Redis에 저장합니다. 토큰 원문 대신 다이제스트와 메타데이터를 담은 압축 레코드가 설정된
+	 * 만료 시간(REFRESH_TOKEN_TIME)과 함께 저장됩니다.
 	 *
 	 * @param username     사용자 아이디
 	 * @param refreshToken 저장할 리프레시 토큰
+	 * @param role         사용자 권한
+	 * @param userId       사용자 ID
+	 * @param nickname     사용자 닉네임
 	 * @throws RuntimeException 토큰 저장 실패 시 발생
 	 */
 	@Transactional
-	public void saveRefreshToken(String username, String refreshToken) {
+	public void saveRefreshToken(String username, String refreshToken, UserRole role, Long userId,
+			String nickname) {
 		String key = generateKey(username);
 		ValueOperations<String, String> ops = redisTemplate.opsForValue();
+		String value = refreshTokenCodec.encode(refreshToken, role, userId, nickname,
+				System.currentTimeMillis());
 
 		try {
-			log.info("리프레시 토큰 저장 시도: username={}", username);
-			ops.set(key, refreshToken, REFRESH_TOKEN_TIME, TimeUnit.MILLISECONDS);
-
-			verifyTokenSaved(key, username);
+			ops.set(key, value, REFRESH_TOKEN_TIME, TimeUnit.MILLISECONDS);
+			log.info(LogEvents.TOKEN_SAVED, "리프레시 토큰 저장 완료: username={}", username);
 		} catch (Exception e) {
 			log.error("리프레시 토큰 저장 실패: username={}, error={}", username, e.getMessage());
 			throw new RuntimeException("리프레시 토큰 저장에 실패했습니다.", e);
@@ -57,152 +94,254 @@ public class RedisService {
 	}
 
 	/**
-	 * 사용자의 리프레시 토큰을 조회합니다.
+	 * 사용자의 리프레시 토큰 저장 값을 조회합니다. 조회는 서킷 브레이커를 거칩니다.
 	 *
 	 * @param username 사용자 아이디
-	 * @return 저장된 리프레시 토큰, 없는 경우 null
+	 * @return Redis에 저장된 값, 없는 경우 null
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 조회에 실패한 경우
 	 */
 	public String getRefreshToken(String username) {
 		String key = generateKey(username);
 		ValueOperations<String, String> ops = redisTemplate.opsForValue();
 
-		try {
-			String token = ops.get(key);
-			logTokenRetrieval(username, token != null);
-			return token;
-		} catch (Exception e) {
-			log.error("리프레시 토큰 조회 실패: username={}, error={}", username, e.getMessage());
-			return null;
-		}
+		String token = tokenStoreCircuitBreaker.execute(() -> ops.get(key));
+		logTokenRetrieval(username, token != null);
+		return token;
 	}
 
 	/**
-	 * 사용자의 리프레시 토큰을 삭제합니다.
+	 * 사용자의 리프레시 토큰 레코드를 조회합니다.
 	 *
 	 * @param username 사용자 아이디
-	 * @return 삭제 성공 여부
-	 * @throws RuntimeException 삭제 중 오류 발생 시
+	 * @return 저장된 레코드, 없거나 만료된 경우 null
 	 */
-	@Transactional
-	public boolean deleteRefreshToken(String username) {
-		String key = generateKey(username);
+	public StoredRefreshToken getStoredRefreshToken(String username) {
+		return decodeRefreshToken(getRefreshToken(username));
+	}
 
-		try {
-			if (!isTokenExists(key)) {
-				log.warn("삭제할 리프레시 토큰이 없음: username={}", username);
+	/**
+	 * Redis에 저장된 값을 리프레시 토큰 레코드로 변환합니다.
+	 *
+	 * @param value Redis에 저장된 값
+	 * @return 변환된 레코드, 값이 없거나 만료된 경우 null
+	 */
+	public StoredRefreshToken decodeRefreshToken(String value) {
+		return refreshTokenCodec.decode(value);
+	}
+
+	/**
+	 * 사용자의 모든 세션을 폐기합니다. 토큰 버전을 올리고 리프레시 토큰을 삭제한 뒤 변경을 모든 노드에
+	 * 알리는 작업이 한 번의 스크립트로 수행되며, 이 노드에는 즉시 반영됩니다. 이전 버전으로 발급된 액세스
+	 * 토큰은 만료 전이라도 인가 필터에서 거절됩니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @return 리프레시 토큰이 있어 삭제되었는지 여부
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 호출에 실패한 경우
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean revokeSessions(String username) {
+		verifiedTokenCache.invalidateSubject(username);
+
+		List<Long> result = tokenStoreCircuitBreaker.execute(() -> redisTemplate.execute(
+				REVOKE_SCRIPT, List.of(TokenVersionRegistry.VERSION_KEY, generateKey(username),
+						TokenVersionRegistry.RECENT_KEY),
+				username, TokenVersionRegistry.CHANNEL,
+				String.valueOf(TokenVersionRegistry.RETENTION_MILLIS)));
+		tokenVersionRegistry.apply(username, result.get(0).intValue());
+		log.info(LogEvents.SECURITY, "세션 폐기 완료: username={}, version={}", username, result.get(0));
+		return result.get(1) > 0;
+	}
+
+	/**
+	 * 지금까지 발급된 모든 사용자의 토큰을 폐기하도록 폐기 시각을 기록하고 모든 노드에 알립니다.
+	 *
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 호출에 실패한 경우
+	 */
+	public void revokeAllSessions() {
+		verifiedTokenCache.invalidateAll();
+
+		Long seconds = tokenStoreCircuitBreaker.execute(() -> redisTemplate.execute(
+				REVOKE_ALL_SCRIPT, List.of(TokenVersionRegistry.REVOKED_BEFORE_KEY),
+				TokenVersionRegistry.CHANNEL));
+		tokenVersionRegistry.applyRevokeAll(seconds);
+		log.info(LogEvents.SECURITY, "전체 세션 폐기 시각 기록: revokedBefore={}", seconds);
+	}
+
+	/**
+	 * 저장된 리프레시 토큰 레코드의 닉네임을 바꿉니다. 재발급은 레코드의 메타데이터로 새 토큰을 만들므로
+	 * 닉네임이 바뀌면 레코드도 함께 바꿔야 이후 발급되는 토큰에 반영됩니다. 토큰과 만료 시각은 그대로이며,
+	 * 그사이 토큰이 교체되었으면 새 레코드를 다시 읽어 한 번 더 시도합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @param nickname 새 닉네임
+	 * @return 레코드를 바꿨는지 여부 (저장된 토큰이 없으면 false)
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 호출에 실패한 경우
+	 */
+	public boolean updateRefreshTokenNickname(String username, String nickname) {
+		List<String> keys = List.of(generateKey(username));
+		for (int attempt = 0; attempt < 2; attempt++) {
+			StoredRefreshToken current = getStoredRefreshToken(username);
+			if (current == null) {
 				return false;
 			}
-
-			return performTokenDeletion(key, username);
-		} catch (Exception e) {
-			log.error("리프레시 토큰 삭제 실패: username={}, error={}", username, e.getMessage());
-			throw new RuntimeException("리프레시 토큰 삭제 중 오류가 발생했습니다.", e);
+			long remaining = current.getIssuedAt() + REFRESH_TOKEN_TIME - System.currentTimeMillis();
+			String newValue = refreshTokenCodec.encodeWithNickname(current, nickname);
+			Long updated = tokenStoreCircuitBreaker.execute(() -> redisTemplate.execute(
+					ROTATE_SCRIPT, keys, current.getRawValue(), newValue,
+					String.valueOf(Math.max(remaining, 1L))));
+			if (Long.valueOf(1L).equals(updated)) {
+				return true;
+			}
 		}
+		log.warn("리프레시 토큰 닉네임 갱신 실패 (동시에 교체됨): username={}", username);
+		return false;
 	}
 
 	/**
-	 * 제공된 리프레시 토큰의 유효성을 검증합니다.
+	 * 저장된 레코드가 기존 레코드와 같을 때만 새 토큰의 레코드로 교체합니다. 비교와 교체는 Lua 스크립트로
+	 * 원자적으로 수행되므로 같은 기존 레코드로 동시에 요청하면 하나만 성공합니다. 이전 형식(토큰 원문)으로
+	 * 저장된 값도 이 시점에 새 형식으로 바뀝니다.
 	 *
-	 * @param username     사용자 아이디
-	 * @param refreshToken 검증할 리프레시 토큰
-	 * @return 토큰의 유효성 여부
+	 * @param username        사용자 아이디
+	 * @param current         현재 저장되어 있어야 하는 레코드
+	 * @param newRefreshToken 새로 저장할 리프레시 토큰
+	 * @return 교체 성공 여부
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 교체에 실패한 경우
 	 */
-	public boolean validateRefreshToken(String username, String refreshToken) {
-		String key = generateKey(username);
-		ValueOperations<String, String> ops = redisTemplate.opsForValue();
+	public boolean rotateRefreshToken(String username, StoredRefreshToken current,
+			String newRefreshToken) {
+		return rotate(username, current, newRefreshToken, List.of(generateKey(username)));
+	}
 
-		try {
-			String storedToken = ops.get(key);
-			boolean isValid = refreshToken.equals(storedToken);
-			logTokenValidation(username, isValid);
-			return isValid;
-		} catch (Exception e) {
-			log.error("리프레시 토큰 검증 실패: username={}, error={}", username, e.getMessage());
-			return false;
-		}
+	/**
+	 * 리프레시 토큰을 원자적으로 교체하면서, 같은 액세스 토큰으로 재발급을 기다리는 요청이 돌려받을 액세스
+	 * 토큰을 유예 시간 동안 함께 저장합니다.
+	 *
+	 * @param username        사용자 아이디
+	 * @param current         현재 저장되어 있어야 하는 레코드
+	 * @param newRefreshToken 새로 저장할 리프레시 토큰
+	 * @param presentedToken  재발급을 요청한 액세스 토큰
+	 * @param newAccessToken  함께 발급한 액세스 토큰
+	 * @param grace           액세스 토큰을 공유할 유예 시간
+	 * @return 교체 성공 여부
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 교체에 실패한 경우
+	 */
+	public boolean rotateRefreshToken(String username, StoredRefreshToken current,
+			String newRefreshToken, String presentedToken, String newAccessToken, Duration grace) {
+		return rotate(username, current, newRefreshToken,
+				List.of(generateKey(username), generateReissueKey(username, presentedToken)),
+				newAccessToken, String.valueOf(grace.toMillis()));
 	}
 
 	/**
-	 * Redis 키를 생성합니다.
+	 * 제시된 액세스 토큰에 대한 재발급을 선점합니다. 선점과 결과는 리프레시 토큰 세대가 아닌 제시된 토큰으로
+	 * 식별되므로, 교체가 끝난 뒤 새 레코드를 읽은 요청도 같은 결과를 돌려받습니다. 제시된 토큰의 폐기 여부는
+	 * 노드 메모리가 아닌 Redis의 토큰 버전({@value TokenVersionRegistry#VERSION_KEY})과 전체 폐기 시각으로
+	 * 같은 스크립트에서 확인합니다.
 	 *
-	 * @param username 사용자 아이디
-	 * @return 생성된 Redis 키
+	 * @param presentedToken 재발급을 요청한 액세스 토큰 원문
+	 * @param presented      검증된 재발급 요청 액세스 토큰
+	 * @param current        현재 저장되어 있어야 하는 레코드
+	 * @param pendingMarker  재발급 진행 중임을 나타내는 값
+	 * @param claimTtl       선점 유지 시간
+	 * @return {@code refresh-token-reissue-claim.lua}의 반환값 (선점 성공, 진행 중 표시, 재발급된 액세스
+	 * 토큰, 또는 폐기되었거나 이미 교체된 경우 null)
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 호출에 실패한 경우
 	 */
-	private String generateKey(String username) {
-		return REFRESH_TOKEN_PREFIX + username;
+	public String claimReissue(String presentedToken, VerifiedToken presented,
+			StoredRefreshToken current, String pendingMarker, Duration claimTtl) {
+		String username = presented.getSubject();
+		List<String> keys = List.of(generateKey(username),
+				generateReissueKey(username, presentedToken),
+				TokenVersionRegistry.VERSION_KEY, TokenVersionRegistry.REVOKED_BEFORE_KEY);
+		return tokenStoreCircuitBreaker.execute(() -> redisTemplate.execute(REISSUE_CLAIM_SCRIPT,
+				keys, current.getRawValue(), pendingMarker, String.valueOf(claimTtl.toMillis()),
+				username, String.valueOf(presented.getVersion()),
+				String.valueOf(presented.getIssuedAt() / 1000)));
 	}
 
 	/**
-	 * 토큰이 정상적으로 저장되었는지 확인합니다.
+	 * 제시된 액세스 토큰에 대한 재발급 결과를 조회합니다.
 	 *
-	 * @param key      Redis 키
-	 * @param username 사용자 아이디
-	 * @throws RuntimeException 저장 확인 실패 시
+	 * @param username       사용자 아이디
+	 * @param presentedToken 재발급을 요청한 액세스 토큰 원문
+	 * @return 재발급된 액세스 토큰 또는 진행 중 표시, 없는 경우 null
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 조회에 실패한 경우
 	 */
-	private void verifyTokenSaved(String key, String username) {
-		String savedToken = redisTemplate.opsForValue().get(key);
-		if (savedToken == null) {
-			log.error("리프레시 토큰 저장 확인 실패: username={}", username);
-			throw new RuntimeException("리프레시 토큰 저장을 확인할 수 없습니다.");
+	public String getReissueResult(String username, String presentedToken) {
+		String key = generateReissueKey(username, presentedToken);
+		return tokenStoreCircuitBreaker.execute(() -> redisTemplate.opsForValue().get(key));
+	}
+
+	private boolean rotate(String username, StoredRefreshToken current, String newRefreshToken,
+			List<String> keys, String... extraArgs) {
+		String newValue = refreshTokenCodec.encode(newRefreshToken, current.getRole(),
+				current.getUserId(), current.getNickname(), System.currentTimeMillis());
+		Object[] args = new Object[3 + extraArgs.length];
+		args[0] = current.getRawValue();
+		args[1] = newValue;
+		args[2] = String.valueOf(REFRESH_TOKEN_TIME);
+		System.arraycopy(extraArgs, 0, args, 3, extraArgs.length);
+
+		Long rotated = tokenStoreCircuitBreaker.execute(
+				() -> redisTemplate.execute(ROTATE_SCRIPT, keys, args));
+		boolean success = Long.valueOf(1L).equals(rotated);
+		if (!success) {
+			log.warn("리프레시 토큰 교체 실패 (이미 교체되었거나 삭제됨): username={}", username);
 		}
-		log.info("리프레시 토큰 저장 완료: username={}", username);
+		return success;
 	}
 
 	/**
-	 * 토큰의 존재 여부를 확인합니다.
+	 * 저하 모드에서 미뤄둔 리프레시 토큰 교체를 수행합니다. 그동안 세션이 삭제되었거나 더 최근에 발급된
+	 * 토큰이 저장되어 있으면 교체하지 않습니다.
 	 *
-	 * @param key Redis 키
-	 * @return 토큰 존재 여부
+	 * @param username        사용자 아이디
+	 * @param newRefreshToken 새로 저장할 리프레시 토큰
+	 * @param issuedAt        새 토큰 발급 시각 (epoch millis)
+	 * @return 교체 성공 여부
 	 */
-	private boolean isTokenExists(String key) {
-		return redisTemplate.opsForValue().get(key) != null;
+	public boolean completeDeferredRotation(String username, String newRefreshToken, long issuedAt) {
+		StoredRefreshToken current = getStoredRefreshToken(username);
+		if (current == null || current.getIssuedAt() > issuedAt) {
+			log.info("지연된 리프레시 토큰 교체 생략: username={}", username);
+			return false;
+		}
+		return rotateRefreshToken(username, current, newRefreshToken);
 	}
 
 	/**
-	 * 토큰 삭제를 수행하고 결과를 확인합니다.
+	 * Redis 키를 생성합니다.
 	 *
-	 * @param key      Redis 키
 	 * @param username 사용자 아이디
-	 * @return 삭제 성공 여부
+	 * @return 생성된 Redis 키
 	 */
-	private boolean performTokenDeletion(String key, String username) {
-		Boolean deleted = redisTemplate.delete(key);
-		if (Boolean.TRUE.equals(deleted)) {
-			boolean confirmDeletion = !isTokenExists(key);
-			if (confirmDeletion) {
-				log.info("리프레시 토큰 삭제 완료: username={}", username);
-				return true;
-			}
-			log.error("리프레시 토큰 삭제 실패 (토큰이 여전히 존재함): username={}", username);
-		}
-		return false;
+	private String generateKey(String username) {
+		return REFRESH_TOKEN_PREFIX + username;
 	}
 
 	/**
-	 * 토큰 조회 결과를 로깅합니다.
+	 * 재발급을 요청한 액세스 토큰별 재발급 결과 키를 생성합니다.
 	 *
-	 * @param username 사용자 아이디
-	 * @param found    토큰 조회 성공 여부
+	 * @param username       사용자 아이디
+	 * @param presentedToken 재발급을 요청한 액세스 토큰 원문
+	 * @return 생성된 Redis 키
 	 */
-	private void logTokenRetrieval(String username, boolean found) {
-		if (found) {
-			log.info("리프레시 토큰 조회 성공: username={}", username);
-		} else {
-			log.warn("리프레시 토큰을 찾을 수 없음: username={}", username);
-		}
+	private String generateReissueKey(String username, String presentedToken) {
+		return REISSUE_PREFIX + username + ":" + refreshTokenCodec.digestId(presentedToken);
 	}
 
 	/**
-	 * 토큰 검증 결과를 로깅합니다.
+	 * 토큰 조회 결과를 로깅합니다.
 	 *
 	 * @param username 사용자 아이디
-	 * @param isValid  검증 결과
+	 * @param found    토큰 조회 성공 여부
 	 */
-	private void logTokenValidation(String username, boolean isValid) {
-		if (isValid) {
-			log.info("리프레시 토큰 검증 성공: username={}", username);
+	private void logTokenRetrieval(String username, boolean found) {
+		if (found) {
+			log.info(LogEvents.TOKEN_LOOKUP, "리프레시 토큰 조회 성공: username={}", username);
 		} else {
-			log.warn("리프레시 토큰 검증 실패: username={}", username);
+			log.warn("리프레시 토큰을 찾을 수 없음: username={}", username);
 		}
 	}
 }
\ No newline at end of file
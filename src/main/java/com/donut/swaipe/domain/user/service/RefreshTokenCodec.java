@@ -0,0 +1,187 @@
+package com.donut.swaipe.domain.user.service;
+
+import static com.donut.swaipe.global.security.jwt.JwtProvider.REFRESH_TOKEN_TIME;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.global.common.InstancePool;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰을 Redis에 저장할 압축 레코드로 변환하는 코덱입니다.
+ *
+ * <p>토큰 원문(수백 바이트의 JWT) 대신 HMAC-SHA256 다이제스트와 권한, 사용자 ID, 닉네임, 발급 시각만
+ * 고정 배치의 바이너리로 저장합니다. 다이제스트는 서버 키로 계산하므로 Redis 덤프가 유출되어도 사용
+ * 가능한 토큰이 노출되지 않습니다. 값은 기존 문자열 직렬화와 클라이언트 측 캐시를 그대로 쓰기 위해
+ * Base64URL로 인코딩합니다.</p>
+ *
+ * <pre>
+ * [0]      버전 (1)
+ * [1]      권한 (UserRole code)
+ * [2..9]   발급 시각 (epoch millis)
+ * [10..17] 사용자 ID (없는 경우 Long.MIN_VALUE)
+ * [18..49] HMAC-SHA256(refreshToken)
+ * [50..]   닉네임 (UTF-8, 없는 경우 비어 있음)
+ * </pre>
+ *
+ * <p>이전 형식(토큰 원문)으로 저장된 값은 JWT를 검증하여 같은 레코드로 읽으며, 다음 재발급 시 새 형식으로
+ * 교체됩니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class RefreshTokenCodec {
+
+	private static final String HMAC_SHA256 = "HmacSHA256";
+	private static final byte VERSION = 1;
+	private static final int DIGEST_LENGTH = 32;
+	private static final int HEADER_LENGTH = 2 + Long.BYTES * 2;
+	private static final long NO_USER_ID = Long.MIN_VALUE;
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final JwtProvider jwtProvider;
+	private final InstancePool<Mac> macPool;
+
+	public RefreshTokenCodec(JwtProvider jwtProvider,
+			@Value("${refresh-token.digest-key:${jwt-secret-key}}") String digestKey) {
+		SecretKeySpec key = new SecretKeySpec(digestKey.getBytes(StandardCharsets.UTF_8),
+				HMAC_SHA256);
+		newMac(key); // 키가 올바르지 않으면 생성 시점에 실패하도록 합니다.
+		this.jwtProvider = jwtProvider;
+		this.macPool = InstancePool.perCore(() -> newMac(key));
+	}
+
+	/**
+	 * 리프레시 토큰의 키 기반 다이제스트를 계산합니다.
+	 *
+	 * @param refreshToken 리프레시 토큰
+	 * @return 32바이트 다이제스트
+	 */
+	public byte[] digest(String refreshToken) {
+		Mac mac = macPool.acquire();
+		try {
+			return mac.doFinal(refreshToken.getBytes(StandardCharsets.US_ASCII));
+		} finally {
+			macPool.release(mac);
+		}
+	}
+
+	/**
+	 * 토큰의 다이제스트를 Redis 키에 쓸 수 있는 문자열로 계산합니다. 토큰 원문을 키에 남기지 않고 같은
+	 * 토큰으로 들어온 요청을 식별할 때 사용합니다.
+	 *
+	 * @param token 토큰
+	 * @return Base64URL로 인코딩한 다이제스트
+	 */
+	public String digestId(String token) {
+		return ENCODER.encodeToString(digest(token));
+	}
+
+	/**
+	 * 리프레시 토큰과 메타데이터를 저장용 값으로 인코딩합니다.
+	 *
+	 * @param refreshToken 리프레시 토큰
+	 * @param role         사용자 권한
+	 * @param userId       사용자 ID (없는 경우 null)
+	 * @param nickname     사용자 닉네임 (없는 경우 null)
+	 * @param issuedAt     발급 시각 (epoch millis)
+	 * @return Redis에 저장할 값
+	 */
+	public String encode(String refreshToken, UserRole role, Long userId, String nickname,
+			long issuedAt) {
+		return encode(digest(refreshToken), role, userId, nickname, issuedAt);
+	}
+
+	/**
+	 * 저장된 레코드의 닉네임만 바꾼 저장용 값을 만듭니다. 토큰 다이제스트와 발급 시각은 그대로 유지됩니다.
+	 *
+	 * @param current  저장된 레코드
+	 * @param nickname 새 닉네임
+	 * @return Redis에 저장할 값
+	 */
+	public String encodeWithNickname(StoredRefreshToken current, String nickname) {
+		return encode(current.getDigest(), current.getRole(), current.getUserId(), nickname,
+				current.getIssuedAt());
+	}
+
+	private String encode(byte[] digest, UserRole role, Long userId, String nickname,
+			long issuedAt) {
+		byte[] nick = nickname != null ? nickname.getBytes(StandardCharsets.UTF_8) : new byte[0];
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + DIGEST_LENGTH + nick.length)
+				.put(VERSION)
+				.put((byte) role.getCode())
+				.putLong(issuedAt)
+				.putLong(userId != null ? userId : NO_USER_ID)
+				.put(digest)
+				.put(nick);
+		return ENCODER.encodeToString(buffer.array());
+	}
+
+	/**
+	 * 저장된 값을 레코드로 디코딩합니다. 이전 형식의 토큰 원문도 읽을 수 있습니다.
+	 *
+	 * @param value Redis에 저장된 값
+	 * @return 디코딩된 레코드, 값이 없거나 올바르지 않거나 만료된 경우 null
+	 */
+	public StoredRefreshToken decode(String value) {
+		if (value == null) {
+			return null;
+		}
+		if (value.indexOf('.') >= 0) {
+			return decodeLegacy(value);
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(value));
+			if (buffer.remaining() < HEADER_LENGTH + DIGEST_LENGTH || buffer.get() != VERSION) {
+				return null;
+			}
+			UserRole role = UserRole.fromCode(buffer.get());
+			long issuedAt = buffer.getLong();
+			long userId = buffer.getLong();
+			byte[] digest = new byte[DIGEST_LENGTH];
+			buffer.get(digest);
+			byte[] nick = new byte[buffer.remaining()];
+			buffer.get(nick);
+
+			if (role == null || issuedAt + REFRESH_TOKEN_TIME <= System.currentTimeMillis()) {
+				return null;
+			}
+			return new StoredRefreshToken(value, role, userId != NO_USER_ID ? userId : null,
+					nick.length > 0 ? new String(nick, StandardCharsets.UTF_8) : null, issuedAt, digest,
+					false);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private StoredRefreshToken decodeLegacy(String refreshToken) {
+		VerifiedToken verified = jwtProvider.verifyUncached(refreshToken);
+		if (!verified.isValid() || verified.getRole() == null) {
+			return null;
+		}
+		return new StoredRefreshToken(refreshToken, verified.getRole(), verified.getUserId(),
+				verified.getNickname(), verified.getIssuedAt(), digest(refreshToken), true);
+	}
+
+	private static Mac newMac(SecretKeySpec key) {
+		try {
+			Mac instance = Mac.getInstance(HMAC_SHA256);
+			instance.init(key);
+			return instance;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("리프레시 토큰 다이제스트 키를 초기화할 수 없습니다.", e);
+		}
+	}
+}
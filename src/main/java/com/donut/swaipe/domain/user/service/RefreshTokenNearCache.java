@@ -0,0 +1,241 @@
+package com.donut.swaipe.domain.user.service;
+
+import com.donut.swaipe.config.RedisClientProperties;
+import com.donut.swaipe.config.RedisConfig;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateAdapter;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 6 클라이언트 트래킹을 사용하는 리프레시 토큰 로컬 캐시입니다.
+ *
+ * <p>인가 필터가 요청마다 수행하는 {@code RT:<username>} 조회를 노드 메모리에서 처리합니다. 토큰이
+ * 삭제되거나 교체되면 Redis가 RESP3 invalidation 메시지를 보내 로컬 항목을 제거합니다. 연결이 끊기면
+ * 무효화 메시지를 놓칠 수 있으므로 로컬 캐시를 비우고, 트래킹을 사용할 수 없는 경우에는
+ * {@link RedisService}로 직접 조회합니다. 무효화 메시지를 놓친 경우에 대비해 항목은 일정 시간이 지나면
+ * 만료됩니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class RefreshTokenNearCache implements MeterBinder, DisposableBean {
+
+	private static final String REFRESH_TOKEN_PREFIX = "RT:";
+	private static final String METRIC_NAME = "refresh_token.near_cache.requests";
+
+	private final RedisService redisService;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final ClientResources clientResources;
+	private final RedisClientProperties clientProperties;
+	private final RedisProperties redisProperties;
+	private final boolean enabled;
+	private final Cache<String, String> localCache;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder fallbacks = new LongAdder();
+
+	private RedisClient client;
+	private StatefulRedisConnection<String, String> connection;
+	private CacheFrontend<String, String> frontend;
+	private volatile boolean tracking;
+
+	public RefreshTokenNearCache(RedisService redisService,
+			TokenStoreCircuitBreaker tokenStoreCircuitBreaker, ClientResources clientResources,
+			RedisClientProperties clientProperties, RedisProperties redisProperties,
+			@Value("${refresh-token.near-cache.enabled:false}") boolean enabled,
+			@Value("${refresh-token.near-cache.maximum-size:100000}") long maximumSize,
+			@Value("${refresh-token.near-cache.ttl:5m}") Duration ttl) {
+		this.redisService = redisService;
+		this.tokenStoreCircuitBreaker = tokenStoreCircuitBreaker;
+		this.clientResources = clientResources;
+		this.clientProperties = clientProperties;
+		this.redisProperties = redisProperties;
+		this.enabled = enabled;
+		this.localCache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.build();
+	}
+
+	/**
+	 * 트래킹 전용 RESP3 연결을 열고 클라이언트 측 캐시를 활성화합니다. 실패하면 직접 조회 모드로 동작합니다.
+	 */
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			RedisURI redisUri = redisUri(redisProperties);
+			client = RedisClient.create(clientResources, redisUri);
+			client.setOptions(RedisConfig.clientOptions(clientProperties).mutate()
+					.protocolVersion(ProtocolVersion.RESP3)
+					.build());
+			client.addListener(new RedisConnectionStateAdapter() {
+				@Override
+				public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+					localCache.invalidateAll();
+				}
+			});
+
+			connection = client.connect(StringCodec.UTF8);
+			frontend = ClientSideCaching.enable(new CountingCacheAccessor(), connection,
+					TrackingArgs.Builder.enabled());
+			tracking = true;
+			log.info("리프레시 토큰 로컬 캐시 활성화: {}:{}", redisUri.getHost(), redisUri.getPort());
+		} catch (Exception e) {
+			log.warn("Redis 클라이언트 트래킹을 사용할 수 없어 직접 조회합니다: {}", e.getMessage());
+			destroy();
+		}
+	}
+
+	/**
+	 * 사용자의 리프레시 토큰을 조회합니다. 로컬 캐시에 없으면 Redis에서 조회한 뒤 캐시에 저장합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @return 저장된 리프레시 토큰, 없는 경우 null
+	 * @throws TokenStoreUnavailableException 저장소 회로가 열려 있거나 조회에 실패한 경우
+	 */
+	public String getRefreshToken(String username) {
+		if (tracking && !tokenStoreCircuitBreaker.isDegraded()) {
+			try {
+				return frontend.get(REFRESH_TOKEN_PREFIX + username);
+			} catch (Exception e) {
+				log.warn("로컬 캐시 조회 실패, 직접 조회합니다: username={}, error={}", username,
+						e.getMessage());
+				localCache.invalidateAll();
+			}
+		}
+
+		fallbacks.increment();
+		return redisService.getRefreshToken(username);
+	}
+
+	/**
+	 * 사용자의 리프레시 토큰 레코드를 로컬 캐시를 거쳐 조회합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @return 저장된 레코드, 없거나 만료된 경우 null
+	 */
+	public StoredRefreshToken getStoredRefreshToken(String username) {
+		return redisService.decodeRefreshToken(getRefreshToken(username));
+	}
+
+	public boolean isTracking() {
+		return tracking;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(METRIC_NAME, hits, LongAdder::sum)
+				.tag("result", "hit")
+				.register(registry);
+		FunctionCounter.builder(METRIC_NAME, misses, LongAdder::sum)
+				.tag("result", "miss")
+				.register(registry);
+		FunctionCounter.builder(METRIC_NAME, fallbacks, LongAdder::sum)
+				.tag("result", "fallback")
+				.register(registry);
+		Gauge.builder("refresh_token.near_cache.size", localCache, Cache::estimatedSize)
+				.register(registry);
+		Gauge.builder("refresh_token.near_cache.tracking", this, cache -> cache.tracking ? 1 : 0)
+				.register(registry);
+	}
+
+	@Override
+	public void destroy() {
+		tracking = false;
+		if (frontend != null) {
+			frontend.close();
+		} else if (connection != null) {
+			connection.close();
+		}
+		if (client != null) {
+			client.shutdown();
+			client = null;
+		}
+		localCache.invalidateAll();
+	}
+
+	/**
+	 * 애플리케이션의 {@code spring.data.redis} 설정(접속 URL, 인증 정보, 데이터베이스, SSL)으로 트래킹 연결의
+	 * 주소를 만듭니다.
+	 */
+	private static RedisURI redisUri(RedisProperties properties) {
+		if (properties.getUrl() != null) {
+			return RedisURI.create(properties.getUrl());
+		}
+
+		RedisURI.Builder builder = RedisURI.builder()
+				.withHost(properties.getHost())
+				.withPort(properties.getPort())
+				.withDatabase(properties.getDatabase())
+				.withSsl(properties.getSsl().isEnabled());
+		if (properties.getPassword() != null) {
+			if (properties.getUsername() != null) {
+				builder.withAuthentication(properties.getUsername(), properties.getPassword());
+			} else {
+				builder.withPassword(properties.getPassword().toCharArray());
+			}
+		}
+		if (properties.getTimeout() != null) {
+			builder.withTimeout(properties.getTimeout());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 로컬 캐시 적중 여부를 집계하는 캐시 접근자입니다.
+	 */
+	private class CountingCacheAccessor implements CacheAccessor<String, String> {
+
+		@Override
+		public String get(String key) {
+			String value = localCache.getIfPresent(key);
+			if (value != null) {
+				hits.increment();
+			} else {
+				misses.increment();
+			}
+			return value;
+		}
+
+		@Override
+		public void put(String key, String value) {
+			localCache.put(key, value);
+		}
+
+		@Override
+		public void evict(String key) {
+			localCache.invalidate(key);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.donut.swaipe.domain.user.service;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis에 저장된 리프레시 토큰 레코드입니다. 토큰 원문 대신 키 기반 다이제스트와 재발급에 필요한 메타데이터만
+ * 담습니다.
+ *
+ * <p>{@code rawValue}는 Redis에 저장된 값 그대로이며, 원자적 교체 시 비교 기준으로 사용됩니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class StoredRefreshToken {
+
+	private final String rawValue;
+	private final UserRole role;
+	private final Long userId;
+	private final String nickname;
+	private final long issuedAt;
+	@Getter(AccessLevel.PACKAGE)
+	private final byte[] digest;
+	private final boolean legacy;
+}
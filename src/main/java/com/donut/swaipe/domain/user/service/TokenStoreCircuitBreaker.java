@@ -0,0 +1,221 @@
+package com.donut.swaipe.domain.user.service;
+
+import com.donut.swaipe.config.TokenStoreProperties;
+import com.donut.swaipe.config.TokenStoreProperties.RotationPolicy;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.donut.swaipe.global.security.jwt.JwtProvider;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 저장소(Redis) 호출을 감싸는 서킷 브레이커입니다.
+ *
+ * <p>오류 비율이나 느린 호출 비율이 임계값을 넘으면 회로가 열리고, 열린 동안에는 Redis를 호출하지 않고
+ * 즉시 {@link TokenStoreUnavailableException}을 던집니다. 호출자는 이 예외를 받으면 저하 모드로 동작합니다.
+ * 저하 모드는 설정된 최대 시간까지만 유지되며, 이후에는 저장소 확인이 필요한 요청을 모두 거절합니다.</p>
+ *
+ * <p>재발급 정책이 QUEUE이면 저하 모드에서 미룬 리프레시 토큰 교체를 제한된 크기의 대기열에 보관했다가
+ * 회로가 닫히면 순서대로 실행합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TokenStoreProperties.class)
+public class TokenStoreCircuitBreaker implements MeterBinder, DisposableBean {
+
+	private static final String NAME = "tokenStore";
+
+	private final CircuitBreakerRegistry registry;
+	private final CircuitBreaker circuitBreaker;
+	private final TokenStoreProperties.Degraded degraded;
+	private final BlockingQueue<Runnable> deferredRotations;
+	private final ExecutorService replayExecutor;
+	private final LongAdder degradedAccepted = new LongAdder();
+	private final LongAdder droppedRotations = new LongAdder();
+	private volatile long degradedSince;
+	private volatile MeterRegistry meterRegistry;
+
+	public TokenStoreCircuitBreaker(TokenStoreProperties properties) {
+		TokenStoreProperties.CircuitBreaker config = properties.getCircuitBreaker();
+		this.registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+				.failureRateThreshold(config.getFailureRateThreshold())
+				.slowCallRateThreshold(config.getSlowCallRateThreshold())
+				.slowCallDurationThreshold(config.getSlowCallDuration())
+				.slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+				.slidingWindowSize(config.getSlidingWindowSize())
+				.minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+				.waitDurationInOpenState(config.getWaitDurationInOpenState())
+				.permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+				.automaticTransitionFromOpenToHalfOpenEnabled(true)
+				.build());
+		this.circuitBreaker = registry.circuitBreaker(NAME);
+		this.degraded = properties.getDegraded();
+		this.deferredRotations = new ArrayBlockingQueue<>(degraded.getRotationQueueCapacity());
+		this.replayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "token-store-replay");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		circuitBreaker.getEventPublisher().onStateTransition(event -> {
+			CircuitBreaker.State to = event.getStateTransition().getToState();
+			log.warn("토큰 저장소 회로 상태 변경: {}", event.getStateTransition());
+			countModeSwitch(to);
+			if (to == CircuitBreaker.State.OPEN && degradedSince == 0) {
+				degradedSince = System.currentTimeMillis();
+			} else if (to == CircuitBreaker.State.CLOSED) {
+				degradedSince = 0;
+				replayExecutor.execute(this::replayDeferredRotations);
+			}
+		});
+	}
+
+	/**
+	 * 회로 상태에 따라 저장소 호출을 실행합니다.
+	 *
+	 * @param call 저장소 호출
+	 * @return 호출 결과
+	 * @throws TokenStoreUnavailableException 회로가 열려 있거나 호출이 실패한 경우
+	 */
+	public <T> T execute(Supplier<T> call) {
+		try {
+			return circuitBreaker.executeSupplier(call);
+		} catch (CallNotPermittedException e) {
+			throw TokenStoreUnavailableException.INSTANCE;
+		} catch (RuntimeException e) {
+			log.error("토큰 저장소 호출 실패: {}", e.getMessage());
+			throw TokenStoreUnavailableException.INSTANCE;
+		}
+	}
+
+	/**
+	 * 회로가 열려 있어 저장소를 호출하지 않는 상태인지 확인합니다.
+	 *
+	 * @return 저하 모드 여부
+	 */
+	public boolean isDegraded() {
+		CircuitBreaker.State state = circuitBreaker.getState();
+		return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+	}
+
+	/**
+	 * 저장소 확인 없이 유효한 액세스 토큰을 받아들일 수 있는지 확인합니다. 회로가 실제로 열려 있고 저하
+	 * 모드가 최대 시간을 넘기지 않은 경우에만 true를 반환합니다. 회로가 닫힌 상태의 일시적인 오류는 저하
+	 * 모드로 취급하지 않습니다.
+	 *
+	 * @return 저하 모드에서 토큰 수락 가능 여부
+	 */
+	public boolean acceptDegraded() {
+		long since = degradedSince;
+		boolean accepted = isDegraded() && since != 0
+				&& System.currentTimeMillis() - since < degraded.getMaxDuration().toMillis();
+		if (accepted) {
+			degradedAccepted.increment();
+		}
+		return accepted;
+	}
+
+	public RotationPolicy getRotationPolicy() {
+		return degraded.getRotationPolicy();
+	}
+
+	/**
+	 * 저하 모드에서 재발급을 허용할 만료 후 경과 시간을 반환합니다. 액세스 토큰 유효 시간을 넘지 않습니다.
+	 *
+	 * @return 재발급 허용 시간 (millis)
+	 */
+	public long getReissueGraceMillis() {
+		return Math.min(degraded.getReissueGrace().toMillis(), JwtProvider.ACCESS_TOKEN_TIME);
+	}
+
+	/**
+	 * 내부 서킷 브레이커를 반환합니다. 논블로킹 호출 경로는 {@link #execute(Supplier)} 대신 이 브레이커를
+	 * 리액티브 연산자로 감싸 같은 회로 상태를 공유합니다.
+	 *
+	 * @return 토큰 저장소 서킷 브레이커
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 저장소 복구 후 실행할 리프레시 토큰 교체를 대기열에 넣습니다.
+	 *
+	 * @param rotation 교체 작업
+	 * @return 대기열에 들어간 경우 true, 가득 찬 경우 false
+	 */
+	public boolean deferRotation(Runnable rotation) {
+		if (degraded.getRotationPolicy() != RotationPolicy.QUEUE || !deferredRotations.offer(rotation)) {
+			droppedRotations.increment();
+			return false;
+		}
+		return true;
+	}
+
+	private void replayDeferredRotations() {
+		int replayed = 0;
+		Runnable rotation;
+		while (!isDegraded() && (rotation = deferredRotations.poll()) != null) {
+			try {
+				rotation.run();
+				replayed++;
+			} catch (Exception e) {
+				log.warn("지연된 리프레시 토큰 교체 실패: {}", e.getMessage());
+			}
+		}
+		if (replayed > 0) {
+			log.info("지연된 리프레시 토큰 교체 완료: count={}", replayed);
+		}
+	}
+
+	private void countModeSwitch(CircuitBreaker.State to) {
+		MeterRegistry meters = meterRegistry;
+		if (meters != null) {
+			Counter.builder("token_store.mode_switches")
+					.tag("to", to.name().toLowerCase())
+					.register(meters)
+					.increment();
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(this.registry).bindTo(registry);
+		Gauge.builder("token_store.degraded", this, breaker -> breaker.isDegraded() ? 1 : 0)
+				.register(registry);
+		Gauge.builder("token_store.deferred_rotations", deferredRotations, BlockingQueue::size)
+				.register(registry);
+		FunctionCounter.builder("token_store.degraded.accepted", degradedAccepted, LongAdder::sum)
+				.register(registry);
+		FunctionCounter.builder("token_store.deferred_rotations.dropped", droppedRotations,
+						LongAdder::sum)
+				.register(registry);
+		this.meterRegistry = registry;
+	}
+
+	@Override
+	public void destroy() {
+		replayExecutor.shutdownNow();
+	}
+}
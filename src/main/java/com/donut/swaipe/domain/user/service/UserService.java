@@ -10,18 +10,24 @@ import com.donut.swaipe.domain.user.mapper.UserMapper;
 import com.donut.swaipe.domain.user.repository.UserRepository;
 import com.donut.swaipe.global.common.ApiResponse;
 import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.datasource.ReadYourWritesTracker;
+import com.donut.swaipe.global.exception.auth.PasswordHashingBusyException;
 import com.donut.swaipe.global.exception.user.SignUpFailedException;
 import com.donut.swaipe.global.exception.user.UserNotFoundException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.details.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  *
  * @author donut
- * @version 1.1
+ * @version 1.2
  * @since 2024-01-28
  */
 @Slf4j
@@ -32,6 +38,9 @@ public class UserService {
 	private final UserRepository userRepository;
 	private final UserMapper userMapper;
 	private final UserValidator userValidator;
+	private final RedisService redisService;
+	private final ReadYourWritesTracker readYourWritesTracker;
+	private final PrincipalCache principalCache;
 
 	/**
 	 * 새로운 사용자를 등록합니다.
@@ -39,6 +48,7 @@ public class UserService {
 	 * @param signupRequestDto 회원가입 요청 정보
 	 * @return 회원가입 결과 및 사용자 정보
 	 * @throws SignUpFailedException 회원가입 처리 중 오류가 발생한 경우
+	 * @throws PasswordHashingBusyException 비밀번호 해싱 대기열이 가득 찬 경우
 	 */
 	@Transactional
 	public ApiResponse<SignupResponseDto> signup(SignUpRequestDto signupRequestDto) {
@@ -47,6 +57,8 @@ public class UserService {
 		try {
 			User newUser = userMapper.toEntity(signupRequestDto);
 			User savedUser = userRepository.save(newUser);
+			// 가입 직후 로그인이 복제 지연으로 실패하지 않도록 주 DB에서 조회하게 합니다
+			readYourWritesTracker.pinAfterCommit(savedUser.getUsername());
 
 			log.info("회원가입 완료: username={}", savedUser.getUsername());
 
@@ -54,9 +66,11 @@ public class UserService {
 					MessageCode.SIGNUP_SUCCESS,
 					userMapper.toSignupResponseDto(savedUser)
 			);
+		} catch (PasswordHashingBusyException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("회원가입 실패: {}", e.getMessage());
-			throw new SignUpFailedException();
+			throw SignUpFailedException.INSTANCE;
 		}
 	}
 
@@ -73,6 +87,12 @@ public class UserService {
 		User user = findUserByUsername(username);
 
 		updateUserFields(user, updateDto);
+		principalCache.invalidateAfterCommit(username);
+		if (updateDto.getPassword() != null) {
+			redisService.revokeSessions(username);
+		} else if (updateDto.getNickname() != null) {
+			updateSessionNicknameAfterCommit(username, updateDto.getNickname());
+		}
 
 		return ApiResponse.success(
 				MessageCode.USER_UPDATE_SUCCESS,
@@ -95,8 +115,12 @@ public class UserService {
 
 		User targetUser = findUserByUsername(targetUsername);
 		targetUser.updateRole(newRole);
+		readYourWritesTracker.pinAfterCommit(targetUsername);
+		principalCache.invalidateAfterCommit(targetUsername);
+		// 이전 권한이 담긴 토큰이 재발급으로 이어지지 않도록 세션을 끊습니다
+		redisService.revokeSessions(targetUsername);
 
-		log.info("사용자 권한 업데이트 완료: username={}, newRole={}", targetUsername, newRole);
+		log.info(LogEvents.SECURITY, "사용자 권한 업데이트 완료: username={}, newRole={}", targetUsername, newRole);
 	}
 
 	/**
@@ -104,12 +128,41 @@ public class UserService {
 	 */
 	private User findUserByUsername(String username) {
 		return userRepository.findByUsername(username)
-				.orElseThrow(UserNotFoundException::new);
+				.orElseThrow(() -> UserNotFoundException.INSTANCE);
 	}
 
 	/**
 	 * 사용자의 필드를 업데이트합니다.
 	 */
+	/**
+	 * 커밋 후 리프레시 토큰 레코드의 닉네임을 바꿉니다. 재발급 토큰은 이 레코드의 닉네임을 사용하므로,
+	 * 바꾸지 않으면 무상태 주체 모드에서 이전 닉네임이 계속 발급됩니다. 저장소 오류는 이미 커밋된 변경을
+	 * 실패로 만들지 않도록 기록만 합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param nickname 새 닉네임
+	 */
+	private void updateSessionNicknameAfterCommit(String username, String nickname) {
+		Runnable update = () -> {
+			try {
+				redisService.updateRefreshTokenNickname(username, nickname);
+			} catch (Exception e) {
+				log.warn("리프레시 토큰 닉네임 갱신 실패: username={}, error={}", username,
+						e.getMessage());
+			}
+		};
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+
 	private void updateUserFields(User user, UpdateUserRequestDto updateDto) {
 		if (updateDto.getNickname() != null) {
 			userValidator.validateNickname(updateDto.getNickname());
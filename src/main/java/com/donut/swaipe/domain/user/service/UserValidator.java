@@ -6,6 +6,7 @@ import com.donut.swaipe.domain.user.repository.UserRepository;
 import com.donut.swaipe.global.exception.auth.UnauthorizedAccessException;
 import com.donut.swaipe.global.exception.user.DuplicateNicknameException;
 import com.donut.swaipe.global.exception.user.DuplicateUsernameException;
+import com.donut.swaipe.global.security.details.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -29,7 +30,7 @@ public class UserValidator {
 	public void validateUsername(String username) {
 		if (userRepository.existsByUsername(username)) {
 			log.warn("중복된 사용자 이름 발견: {}", username);
-			throw new DuplicateUsernameException();
+			throw DuplicateUsernameException.INSTANCE;
 		}
 	}
 
@@ -42,7 +43,7 @@ public class UserValidator {
 	public void validateNickname(String nickname) {
 		if (userRepository.existsByNickname(nickname)) {
 			log.warn("중복된 닉네임 발견: {}", nickname);
-			throw new DuplicateNicknameException();
+			throw DuplicateNicknameException.INSTANCE;
 		}
 	}
 
@@ -55,7 +56,21 @@ public class UserValidator {
 	public void validateAdminRole(User admin) {
 		if (admin.getUserRole() != UserRole.MANAGER) {
 			log.warn("권한 없는 사용자의 권한 변경 시도: {}", admin.getUsername());
-			throw new UnauthorizedAccessException();
+			throw UnauthorizedAccessException.INSTANCE;
+		}
+	}
+
+	/**
+	 * 인증된 사용자의 관리자 권한을 검증합니다.
+	 *
+	 * @param admin 검증할 인증 사용자
+	 * @throws UnauthorizedAccessException 관리자 권한이 없는 경우
+	 */
+	public void validateAdminRole(UserDetailsImpl admin) {
+		if (admin == null || admin.getUserRole() != UserRole.MANAGER) {
+			log.warn("권한 없는 사용자의 관리자 기능 접근 시도: {}",
+					admin != null ? admin.getUsername() : null);
+			throw UnauthorizedAccessException.INSTANCE;
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.donut.swaipe.global.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 {@link MessageCode}의 오류 응답 본문을 시작 시점에 UTF-8 JSON으로 직렬화해 두는 컴포넌트입니다.
+ *
+ * <p>필터와 예외 처리기는 요청마다 {@link ApiResponse}를 만들고 직렬화하는 대신 미리 만든 바이트를 그대로
+ * 씁니다. 거절 응답이 대부분인 비정상 트래픽도 응답 생성 비용이 거의 들지 않습니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class ErrorResponses {
+
+	private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON,
+			StandardCharsets.UTF_8);
+	private static final String JSON_UTF8_VALUE = JSON_UTF8.toString();
+
+	private final Map<MessageCode, byte[]> bodies = new EnumMap<>(MessageCode.class);
+
+	public ErrorResponses(ObjectMapper objectMapper) throws JsonProcessingException {
+		for (MessageCode messageCode : MessageCode.values()) {
+			bodies.put(messageCode, objectMapper.writeValueAsBytes(ApiResponse.error(messageCode)));
+		}
+	}
+
+	/**
+	 * 미리 직렬화된 오류 응답을 서블릿 응답에 씁니다.
+	 *
+	 * @param res         HTTP 응답
+	 * @param status      HTTP 상태 코드
+	 * @param messageCode 응답 메시지 코드
+	 * @throws IOException 입출력 처리 중 오류 발생 시
+	 */
+	public void write(HttpServletResponse res, HttpStatus status, MessageCode messageCode)
+			throws IOException {
+		byte[] body = bodies.get(messageCode);
+		res.setStatus(status.value());
+		res.setContentType(JSON_UTF8_VALUE);
+		res.setContentLength(body.length);
+		res.getOutputStream().write(body);
+	}
+
+	/**
+	 * 미리 직렬화된 오류 응답을 {@code Retry-After} 헤더와 함께 서블릿 응답에 씁니다.
+	 *
+	 * @param res               HTTP 응답
+	 * @param status            HTTP 상태 코드
+	 * @param messageCode       응답 메시지 코드
+	 * @param retryAfterSeconds 재시도까지 기다릴 시간(초)
+	 * @throws IOException 입출력 처리 중 오류 발생 시
+	 */
+	public void write(HttpServletResponse res, HttpStatus status, MessageCode messageCode,
+			long retryAfterSeconds) throws IOException {
+		res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		write(res, status, messageCode);
+	}
+
+	/**
+	 * 미리 직렬화된 오류 응답 본문으로 {@link ResponseEntity}를 만듭니다.
+	 *
+	 * @param status      HTTP 상태 코드
+	 * @param messageCode 응답 메시지 코드
+	 * @return 오류 응답
+	 */
+	public ResponseEntity<byte[]> entity(HttpStatus status, MessageCode messageCode) {
+		return ResponseEntity.status(status)
+				.contentType(JSON_UTF8)
+				.body(bodies.get(messageCode));
+	}
+
+	/**
+	 * 미리 직렬화된 오류 응답 본문과 {@code Retry-After} 헤더로 {@link ResponseEntity}를 만듭니다.
+	 *
+	 * @param status            HTTP 상태 코드
+	 * @param messageCode       응답 메시지 코드
+	 * @param retryAfterSeconds 재시도까지 기다릴 시간(초)
+	 * @return 오류 응답
+	 */
+	public ResponseEntity<byte[]> entity(HttpStatus status, MessageCode messageCode,
+			long retryAfterSeconds) {
+		return ResponseEntity.status(status)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+				.contentType(JSON_UTF8)
+				.body(bodies.get(messageCode));
+	}
+}
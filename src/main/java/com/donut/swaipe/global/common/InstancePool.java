@@ -0,0 +1,49 @@
+package com.donut.swaipe.global.common;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 상태를 가진 재사용 객체({@code Mac}, {@code MessageDigest} 등)를 보관하는 크기 제한 풀입니다.
+ *
+ * <p>가상 스레드는 요청마다 새로 만들어지므로 {@link ThreadLocal}에 캐시하면 매번 새 객체를 만들고 버리게
+ * 됩니다. 이 풀은 스레드와 관계없이 객체를 돌려 쓰며, 비어 있으면 새로 만들고 가득 차면 반납된 객체를
+ * 버립니다. 내부 큐는 {@code synchronized} 대신 {@code java.util.concurrent} 락을 사용하므로 가상 스레드가
+ * 캐리어에 고정되지 않습니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class InstancePool<T> {
+
+	private final Supplier<T> factory;
+	private final BlockingQueue<T> idle;
+
+	public InstancePool(Supplier<T> factory, int capacity) {
+		this.factory = factory;
+		this.idle = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * 가용 코어 수의 두 배를 보관하는 풀을 만듭니다.
+	 */
+	public static <T> InstancePool<T> perCore(Supplier<T> factory) {
+		return new InstancePool<>(factory, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * 객체를 빌립니다. 사용이 끝나면 초기화된 상태로 {@link #release(Object)}에 돌려줘야 합니다.
+	 *
+	 * @return 재사용하거나 새로 만든 객체
+	 */
+	public T acquire() {
+		T instance = idle.poll();
+		return instance != null ? instance : factory.get();
+	}
+
+	public void release(T instance) {
+		idle.offer(instance);
+	}
+}
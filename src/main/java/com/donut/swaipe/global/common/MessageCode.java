@@ -37,6 +37,13 @@ public enum MessageCode {
    GENERATE_TOKEN("A004", "토큰 발급 완료했습니다."),
    AUTHORIZED_ERROR("A005", "인가에 실패했습니다."),
    REGENERATE_TOKEN("A006", "토큰 재발급을 완료했습니다."),
+   REVOCATION_JOB_STARTED("A007", "세션 일괄 폐기를 시작했습니다."),
+   REVOCATION_JOB_STATUS("A008", "세션 일괄 폐기 상태를 조회했습니다."),
+   REVOCATION_JOB_NOT_FOUND("A009", "세션 일괄 폐기 작업을 찾을 수 없습니다."),
+   REVOCATION_JOB_REJECTED("A010", "진행 중인 세션 일괄 폐기 작업이 많습니다.\n잠시 후 다시 시도해주세요."),
+   TOO_MANY_LOGIN_ATTEMPTS("A011", "로그인 시도가 너무 많습니다.\n잠시 후 다시 시도해주세요."),
+   TOKEN_STORE_UNAVAILABLE("A012", "인증 저장소를 일시적으로 사용할 수 없습니다.\n잠시 후 다시 시도해주세요."),
+   PASSWORD_HASHING_BUSY("A013", "요청이 많아 처리하지 못했습니다.\n잠시 후 다시 시도해주세요."),
 
    // Validation
    INVALID_INPUT("V001", "입력값이 올바르지 않습니다."),
@@ -0,0 +1,178 @@
+package com.donut.swaipe.global.datasource;
+
+import com.donut.swaipe.config.DataSourceRoutingProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쓰기를 커밋한 사용자의 읽기를 잠시 주 DB로 고정해 자기 쓰기를 바로 읽을 수 있게 합니다.
+ *
+ * <p>복제본은 주 DB보다 늦게 반영되므로, 정보를 수정한 직후의 조회가 복제본으로 가면 이전 값이 보일 수
+ * 있습니다. 쓰기 트랜잭션이 커밋되면 해당 사용자를 고정 시간 동안 기록해 두고, 그동안 이 사용자의 읽기 전용
+ * 트랜잭션은 주 DB로 보냅니다. 고정은 {@value #CHANNEL} 채널로 다른 노드에도 전파되므로 다음 요청이 다른
+ * 노드로 가도 유지됩니다. 읽기 경로에서는 Redis를 거치지 않습니다.</p>
+ *
+ * <p>현재 사용자는 {@link #callAs}로 지정한 이름을 우선하고, 없으면 인증된 사용자입니다. 인증 전에 사용자를
+ * 조회하는 로그인과 인가 필터는 조회할 사용자 이름을 직접 지정합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker implements MessageListener, MeterBinder {
+
+	public static final String CHANNEL = "primary-pin";
+	private static final ThreadLocal<String> SUBJECT = new ThreadLocal<>();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final boolean enabled;
+	private final Cache<String, Boolean> pinned;
+	private final LongAdder pins = new LongAdder();
+
+	public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate,
+			RedisMessageListenerContainer listenerContainer, DataSourceRoutingProperties properties) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.enabled = properties.isEnabled();
+		this.pinned = Caffeine.newBuilder()
+				.expireAfterWrite(properties.getPinWindow())
+				.maximumSize(properties.getPinMaximumSize())
+				.build();
+	}
+
+	/**
+	 * 라우팅을 사용할 때만 고정 채널 구독을 등록합니다.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+		}
+	}
+
+	/**
+	 * 지정한 사용자를 현재 사용자로 두고 작업을 실행합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param action   실행할 작업
+	 * @return 작업 결과
+	 */
+	public <T> T callAs(String username, Supplier<T> action) {
+		String previous = SUBJECT.get();
+		SUBJECT.set(username);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				SUBJECT.remove();
+			} else {
+				SUBJECT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * 현재 사용자의 읽기를 주 DB로 보내야 하는지 확인합니다.
+	 *
+	 * @return 고정 시간 안에 쓰기를 커밋한 사용자이면 true
+	 */
+	public boolean isPinned() {
+		String subject = currentSubject();
+		return subject != null && pinned.getIfPresent(subject) != null;
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되면 현재 사용자를 고정합니다. 라우팅 데이터소스가 쓰기 트랜잭션에 주 DB를 내줄 때
+	 * 호출합니다.
+	 */
+	public void pinCurrentSubjectAfterCommit() {
+		String subject = currentSubject();
+		if (subject != null) {
+			pinAfterCommit(subject);
+		}
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되면 지정한 사용자를 고정합니다. 트랜잭션 밖에서는 바로 고정합니다. 회원가입처럼
+	 * 인증된 사용자가 아닌 사용자의 정보를 쓸 때 호출합니다.
+	 *
+	 * @param username 사용자 이름
+	 */
+	public void pinAfterCommit(String username) {
+		if (!enabled) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			pin(username);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				pin(username);
+			}
+		});
+	}
+
+	private void pin(String username) {
+		pinned.put(username, Boolean.TRUE);
+		pins.increment();
+		try {
+			redisTemplate.convertAndSend(CHANNEL, username);
+		} catch (Exception e) {
+			log.warn("주 DB 고정 전파 실패: username={}, reason={}", username, e.getMessage());
+		}
+	}
+
+	private static String currentSubject() {
+		String subject = SUBJECT.get();
+		if (subject != null) {
+			return subject;
+		}
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()
+				|| authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+
+	/**
+	 * 다른 노드가 전파한 고정을 반영합니다. 메시지 본문은 사용자 이름입니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		pinned.put(new String(message.getBody(), StandardCharsets.UTF_8), Boolean.TRUE);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("datasource.routing.pinned", pinned, Cache::estimatedSize)
+				.register(registry);
+		FunctionCounter.builder("datasource.routing.pins", pins, LongAdder::sum)
+				.register(registry);
+	}
+}
@@ -0,0 +1,108 @@
+package com.donut.swaipe.global.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외의 작업은 주 DB로 보내는 데이터소스입니다.
+ *
+ * <p>경로는 커넥션을 얻는 시점의 트랜잭션 속성으로 정합니다. 트랜잭션 관리자는 읽기 전용 여부를 기록하기
+ * 전에 커넥션을 먼저 요청하므로, 이 데이터소스는 실제 커넥션을 첫 SQL 실행까지 미루는
+ * {@code LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.</p>
+ *
+ * <p>복제본이 여러 대이면 차례로 나눠 보냅니다. 최근에 쓰기를 커밋한 사용자의 읽기는
+ * {@link ReadYourWritesTracker}에 따라 주 DB로 보내며, 쓰기 트랜잭션에 주 DB를 내줄 때 현재 사용자를
+ * 고정하도록 알립니다. 트랜잭션 밖의 작업(스키마 갱신 등)은 주 DB로 갑니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource
+		implements MeterBinder, DisposableBean {
+
+	private static final String PRIMARY = "primary";
+	private static final String REPLICA_PREFIX = "replica-";
+
+	private final ReadYourWritesTracker readYourWritesTracker;
+	private final List<DataSource> replicas;
+	private final String[] replicaKeys;
+	private final AtomicInteger sequence = new AtomicInteger();
+	private final LongAdder primaryRoutes = new LongAdder();
+	private final LongAdder replicaRoutes = new LongAdder();
+	private final LongAdder pinnedRoutes = new LongAdder();
+
+	public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicas,
+			ReadYourWritesTracker readYourWritesTracker) {
+		this.readYourWritesTracker = readYourWritesTracker;
+		this.replicas = List.copyOf(replicas);
+		this.replicaKeys = new String[replicas.size()];
+
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		for (int i = 0; i < replicas.size(); i++) {
+			replicaKeys[i] = REPLICA_PREFIX + i;
+			targets.put(replicaKeys[i], replicas.get(i));
+		}
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			primaryRoutes.increment();
+			return PRIMARY;
+		}
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			readYourWritesTracker.pinCurrentSubjectAfterCommit();
+			primaryRoutes.increment();
+			return PRIMARY;
+		}
+		if (replicaKeys.length == 0) {
+			primaryRoutes.increment();
+			return PRIMARY;
+		}
+		if (readYourWritesTracker.isPinned()) {
+			pinnedRoutes.increment();
+			return PRIMARY;
+		}
+		replicaRoutes.increment();
+		return replicaKeys[Math.floorMod(sequence.getAndIncrement(), replicaKeys.length)];
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("datasource.routing.connections", primaryRoutes, LongAdder::sum)
+				.tag("route", "primary")
+				.register(registry);
+		FunctionCounter.builder("datasource.routing.connections", replicaRoutes, LongAdder::sum)
+				.tag("route", "replica")
+				.register(registry);
+		FunctionCounter.builder("datasource.routing.connections", pinnedRoutes, LongAdder::sum)
+				.tag("route", "pinned")
+				.register(registry);
+	}
+
+	/**
+	 * 이 데이터소스가 만든 복제본 커넥션 풀을 닫습니다. 주 DB 풀은 별도 빈으로 관리됩니다.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		for (DataSource replica : replicas) {
+			if (replica instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+}
@@ -3,12 +3,19 @@ package com.donut.swaipe.global.exception;
 import com.donut.swaipe.global.common.MessageCode;
 import lombok.Getter;
 
+/**
+ * 도메인 예외의 상위 클래스입니다.
+ *
+ * <p>도메인 예외는 고정된 {@link MessageCode}만 전달하고 원인 분석에 스택 트레이스가 필요하지 않으므로,
+ * 스택 트레이스와 suppressed 예외를 기록하지 않습니다. 상태가 없어 하위 클래스는 {@code INSTANCE}를
+ * 재사용해 던집니다.</p>
+ */
 @Getter
 public class CustomException extends RuntimeException {
     private final MessageCode messageCode;
 
     public CustomException(MessageCode messageCode) {
-        super(messageCode.getMessage());
+        super(messageCode.getMessage(), null, false, false);
         this.messageCode = messageCode;
     }
-}
\ No newline at end of file
+}
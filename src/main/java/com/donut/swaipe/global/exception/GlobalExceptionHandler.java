@@ -1,15 +1,21 @@
 package com.donut.swaipe.global.exception;
 
-import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.ErrorResponses;
 import com.donut.swaipe.global.common.MessageCode;
 import com.donut.swaipe.global.exception.auth.AuthenticationFailedException;
 import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.exception.auth.PasswordHashingBusyException;
+import com.donut.swaipe.global.exception.auth.RevocationJobNotFoundException;
+import com.donut.swaipe.global.exception.auth.RevocationJobRejectedException;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
 import com.donut.swaipe.global.exception.auth.UnauthorizedAccessException;
 import com.donut.swaipe.global.exception.user.DuplicateNicknameException;
 import com.donut.swaipe.global.exception.user.DuplicateUsernameException;
 import com.donut.swaipe.global.exception.user.LogoutFailedException;
 import com.donut.swaipe.global.exception.user.SignOutFailedException;
 import com.donut.swaipe.global.exception.user.UserNotFoundException;
+import com.donut.swaipe.global.security.password.OffloadingPasswordEncoder;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +26,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+	private final ErrorResponses errorResponses;
+
 	//	enum으로 정의된 고정 메시지만 사용
 	//	예외 클래스의 존재 자체가 예외 상황을 나타내는 역할
 	//	예외의 동적 메시지나 상세 정보는 활용 불가
@@ -33,9 +42,8 @@ public class GlobalExceptionHandler {
 	 * @return 404 NOT_FOUND 응답
 	 */
 	@ExceptionHandler(UserNotFoundException.class)
-	public ResponseEntity<ApiResponse<Void>> handleUserNotFoundException(UserNotFoundException e) {
-		return ResponseEntity.status(HttpStatus.NOT_FOUND)
-				.body(ApiResponse.error(MessageCode.USER_NOT_FOUND));
+	public ResponseEntity<byte[]> handleUserNotFoundException(UserNotFoundException e) {
+		return errorResponses.entity(HttpStatus.NOT_FOUND, MessageCode.USER_NOT_FOUND);
 	}
 
 	/**
@@ -45,10 +53,9 @@ public class GlobalExceptionHandler {
 	 * @return 409 CONFLICT 응답
 	 */
 	@ExceptionHandler(DuplicateUsernameException.class)
-	public ResponseEntity<ApiResponse<Void>> handleDuplicateUsernameException(
+	public ResponseEntity<byte[]> handleDuplicateUsernameException(
 			DuplicateUsernameException e) {
-		return ResponseEntity.status(HttpStatus.CONFLICT)
-				.body(ApiResponse.error(MessageCode.DUPLICATE_USERNAME));
+		return errorResponses.entity(HttpStatus.CONFLICT, MessageCode.DUPLICATE_USERNAME);
 	}
 
 	/**
@@ -58,10 +65,9 @@ public class GlobalExceptionHandler {
 	 * @return 409 CONFLICT 응답
 	 */
 	@ExceptionHandler(DuplicateNicknameException.class)
-	public ResponseEntity<ApiResponse<Void>> handleDuplicateNicknameException(
+	public ResponseEntity<byte[]> handleDuplicateNicknameException(
 			DuplicateNicknameException e) {
-		return ResponseEntity.status(HttpStatus.CONFLICT)
-				.body(ApiResponse.error(MessageCode.DUPLICATE_NICKNAME));
+		return errorResponses.entity(HttpStatus.CONFLICT, MessageCode.DUPLICATE_NICKNAME);
 	}
 
 	/**
@@ -71,10 +77,9 @@ public class GlobalExceptionHandler {
 	 * @return 403 FORBIDDEN 응답
 	 */
 	@ExceptionHandler(UnauthorizedAccessException.class)
-	public ResponseEntity<ApiResponse<Void>> handleUnauthorizedAccessException(
+	public ResponseEntity<byte[]> handleUnauthorizedAccessException(
 			UnauthorizedAccessException e) {
-		return ResponseEntity.status(HttpStatus.FORBIDDEN)
-				.body(ApiResponse.error(MessageCode.UNAUTHORIZED_ACCESS));
+		return errorResponses.entity(HttpStatus.FORBIDDEN, MessageCode.UNAUTHORIZED_ACCESS);
 	}
 
 	/**
@@ -84,10 +89,9 @@ public class GlobalExceptionHandler {
 	 * @return 401 UNAUTHORIZED 응답
 	 */
 	@ExceptionHandler(AuthenticationFailedException.class)
-	public ResponseEntity<ApiResponse<Void>> handleAuthenticationFailedException(
+	public ResponseEntity<byte[]> handleAuthenticationFailedException(
 			AuthenticationFailedException e) {
-		return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-				.body(ApiResponse.error(MessageCode.AUTHENTICATION_FAILED));
+		return errorResponses.entity(HttpStatus.UNAUTHORIZED, MessageCode.AUTHENTICATION_FAILED);
 	}
 
 	/**
@@ -97,9 +101,8 @@ public class GlobalExceptionHandler {
 	 * @return 401 UNAUTHORIZED 응답
 	 */
 	@ExceptionHandler(InvalidTokenException.class)
-	public ResponseEntity<ApiResponse<Void>> handleInvalidTokenException(InvalidTokenException e) {
-		return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-				.body(ApiResponse.error(MessageCode.INVALID_TOKEN));
+	public ResponseEntity<byte[]> handleInvalidTokenException(InvalidTokenException e) {
+		return errorResponses.entity(HttpStatus.UNAUTHORIZED, MessageCode.INVALID_TOKEN);
 	}
 
 	/**
@@ -109,9 +112,8 @@ public class GlobalExceptionHandler {
 	 * @return 400 BAD_REQUEST 응답
 	 */
 	@ExceptionHandler(LogoutFailedException.class)
-	public ResponseEntity<ApiResponse<Void>> handleLogoutFailedException(LogoutFailedException e) {
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-				.body(ApiResponse.error(MessageCode.LOGOUT_FAILED));
+	public ResponseEntity<byte[]> handleLogoutFailedException(LogoutFailedException e) {
+		return errorResponses.entity(HttpStatus.BAD_REQUEST, MessageCode.LOGOUT_FAILED);
 	}
 
 	/**
@@ -121,10 +123,60 @@ public class GlobalExceptionHandler {
 	 * @return 400 BAD_REQUEST 응답
 	 */
 	@ExceptionHandler(SignOutFailedException.class)
-	public ResponseEntity<ApiResponse<Void>> handleSignOutFailedException(
+	public ResponseEntity<byte[]> handleSignOutFailedException(
 			SignOutFailedException e) {
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-				.body(ApiResponse.error(MessageCode.SIGNOUT_FAILED));
+		return errorResponses.entity(HttpStatus.BAD_REQUEST, MessageCode.SIGNOUT_FAILED);
+	}
+
+	/**
+	 * 존재하지 않는 세션 일괄 폐기 작업을 조회할 때 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 작업을 찾을 수 없을 때 발생하는 예외
+	 * @return 404 NOT_FOUND 응답
+	 */
+	@ExceptionHandler(RevocationJobNotFoundException.class)
+	public ResponseEntity<byte[]> handleRevocationJobNotFoundException(
+			RevocationJobNotFoundException e) {
+		return errorResponses.entity(HttpStatus.NOT_FOUND, MessageCode.REVOCATION_JOB_NOT_FOUND);
+	}
+
+	/**
+	 * 동시에 실행할 수 있는 세션 일괄 폐기 작업 수를 넘었을 때 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 작업 실행 거부로 인한 예외
+	 * @return 503 SERVICE_UNAVAILABLE 응답
+	 */
+	@ExceptionHandler(RevocationJobRejectedException.class)
+	public ResponseEntity<byte[]> handleRevocationJobRejectedException(
+			RevocationJobRejectedException e) {
+		return errorResponses.entity(HttpStatus.SERVICE_UNAVAILABLE,
+				MessageCode.REVOCATION_JOB_REJECTED);
+	}
+
+	/**
+	 * 토큰 저장소를 사용할 수 없을 때 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 저장소 회로가 열려 있거나 호출에 실패했을 때 발생하는 예외
+	 * @return 503 SERVICE_UNAVAILABLE 응답
+	 */
+	@ExceptionHandler(TokenStoreUnavailableException.class)
+	public ResponseEntity<byte[]> handleTokenStoreUnavailableException(
+			TokenStoreUnavailableException e) {
+		return errorResponses.entity(HttpStatus.SERVICE_UNAVAILABLE,
+				MessageCode.TOKEN_STORE_UNAVAILABLE);
+	}
+
+	/**
+	 * 비밀번호 해싱 대기열이 가득 찼거나 기한 안에 해싱하지 못했을 때 발생하는 예외를 처리합니다.
+	 *
+	 * @param e 해싱 요청 거절로 인한 예외
+	 * @return 503 SERVICE_UNAVAILABLE 응답 (Retry-After 포함)
+	 */
+	@ExceptionHandler(PasswordHashingBusyException.class)
+	public ResponseEntity<byte[]> handlePasswordHashingBusyException(
+			PasswordHashingBusyException e) {
+		return errorResponses.entity(HttpStatus.SERVICE_UNAVAILABLE,
+				MessageCode.PASSWORD_HASHING_BUSY, OffloadingPasswordEncoder.RETRY_AFTER_SECONDS);
 	}
 
 	/**
@@ -134,10 +186,9 @@ public class GlobalExceptionHandler {
 	 * @return 400 BAD_REQUEST 응답
 	 */
 	@ExceptionHandler(MethodArgumentNotValidException.class)
-	public ResponseEntity<ApiResponse<Void>> handleValidationException(
+	public ResponseEntity<byte[]> handleValidationException(
 			MethodArgumentNotValidException e) {
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-				.body(ApiResponse.error(MessageCode.INVALID_INPUT));
+		return errorResponses.entity(HttpStatus.BAD_REQUEST, MessageCode.INVALID_INPUT);
 	}
 
 	/**
@@ -147,9 +198,8 @@ public class GlobalExceptionHandler {
 	 * @return 500 INTERNAL_SERVER_ERROR 응답
 	 */
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+	public ResponseEntity<byte[]> handleException(Exception e) {
 		log.error("Unexpected error occurred: ", e);
-		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-				.body(ApiResponse.error(MessageCode.FAILED));
+		return errorResponses.entity(HttpStatus.INTERNAL_SERVER_ERROR, MessageCode.FAILED);
 	}
 }
\ No newline at end of file
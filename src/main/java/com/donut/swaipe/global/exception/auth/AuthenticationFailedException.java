@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class AuthenticationFailedException extends CustomException {
+    public static final AuthenticationFailedException INSTANCE = new AuthenticationFailedException();
+
     public AuthenticationFailedException() {
         super(MessageCode.DUPLICATE_NICKNAME);
     }
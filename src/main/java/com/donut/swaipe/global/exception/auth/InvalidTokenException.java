@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class InvalidTokenException extends CustomException {
+    public static final InvalidTokenException INSTANCE = new InvalidTokenException();
+
     public InvalidTokenException() {
         super(MessageCode.INVALID_TOKEN);
     }
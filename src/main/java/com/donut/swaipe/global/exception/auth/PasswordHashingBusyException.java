@@ -0,0 +1,13 @@
+package com.donut.swaipe.global.exception.auth;
+
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.CustomException;
+
+public class PasswordHashingBusyException extends CustomException {
+
+	public static final PasswordHashingBusyException INSTANCE = new PasswordHashingBusyException();
+
+	public PasswordHashingBusyException() {
+		super(MessageCode.PASSWORD_HASHING_BUSY);
+	}
+}
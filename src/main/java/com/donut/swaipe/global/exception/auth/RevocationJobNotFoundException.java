@@ -0,0 +1,13 @@
+package com.donut.swaipe.global.exception.auth;
+
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.CustomException;
+
+public class RevocationJobNotFoundException extends CustomException {
+
+	public static final RevocationJobNotFoundException INSTANCE = new RevocationJobNotFoundException();
+
+	public RevocationJobNotFoundException() {
+		super(MessageCode.REVOCATION_JOB_NOT_FOUND);
+	}
+}
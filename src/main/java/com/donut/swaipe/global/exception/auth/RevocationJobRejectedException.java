@@ -0,0 +1,13 @@
+package com.donut.swaipe.global.exception.auth;
+
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.CustomException;
+
+public class RevocationJobRejectedException extends CustomException {
+
+	public static final RevocationJobRejectedException INSTANCE = new RevocationJobRejectedException();
+
+	public RevocationJobRejectedException() {
+		super(MessageCode.REVOCATION_JOB_REJECTED);
+	}
+}
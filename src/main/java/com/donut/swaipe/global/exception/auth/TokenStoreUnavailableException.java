@@ -0,0 +1,13 @@
+package com.donut.swaipe.global.exception.auth;
+
+import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.CustomException;
+
+public class TokenStoreUnavailableException extends CustomException {
+
+	public static final TokenStoreUnavailableException INSTANCE = new TokenStoreUnavailableException();
+
+	public TokenStoreUnavailableException() {
+		super(MessageCode.TOKEN_STORE_UNAVAILABLE);
+	}
+}
@@ -6,6 +6,8 @@ import com.donut.swaipe.global.exception.CustomException;
 // global/exception/user/UnauthorizedAccessException.java
 public class UnauthorizedAccessException extends CustomException {
 
+	public static final UnauthorizedAccessException INSTANCE = new UnauthorizedAccessException();
+
 	public UnauthorizedAccessException() {
 		super(MessageCode.UNAUTHORIZED_ACCESS);
 	}
@@ -0,0 +1,50 @@
+package com.donut.swaipe.global.exception.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 본문 수집에 쓰는 고정 크기 버퍼 풀입니다.
+ *
+ * <p>버퍼는 필요할 때 만들어 최대 {@code poolSize}개까지 재사용합니다. 모든 버퍼가 사용 중이면
+ * {@code null}을 반환하며, 호출자는 본문을 수집하지 않고 요청을 처리합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class BodyCaptureBufferPool {
+
+	private final int bufferSize;
+	private final int poolSize;
+	private final BlockingQueue<byte[]> idle;
+	private final AtomicInteger created = new AtomicInteger();
+
+	BodyCaptureBufferPool(int bufferSize, int poolSize) {
+		this.bufferSize = bufferSize;
+		this.poolSize = poolSize;
+		this.idle = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+	}
+
+	/**
+	 * 버퍼를 빌립니다.
+	 *
+	 * @return 사용할 버퍼, 풀이 모두 사용 중이면 null
+	 */
+	byte[] acquire() {
+		byte[] buffer = idle.poll();
+		if (buffer != null) {
+			return buffer;
+		}
+		if (created.incrementAndGet() <= poolSize) {
+			return new byte[bufferSize];
+		}
+		created.decrementAndGet();
+		return null;
+	}
+
+	void release(byte[] buffer) {
+		idle.offer(buffer);
+	}
+}
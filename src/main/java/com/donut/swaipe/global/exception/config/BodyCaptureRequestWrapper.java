@@ -0,0 +1,135 @@
+package com.donut.swaipe.global.exception.config;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * 핸들러가 읽는 요청 본문의 앞부분만 버퍼에 복사해 두는 요청 래퍼입니다.
+ *
+ * <p>본문 전체를 미리 읽어 두지 않고, 핸들러가 스트림을 읽는 동안 버퍼 크기까지만 함께 기록합니다.
+ * 버퍼는 풀에서 빌린 것이므로 요청이 끝나면 {@link #snippet()}으로 내용을 꺼낸 뒤 반납해야 합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class BodyCaptureRequestWrapper extends HttpServletRequestWrapper {
+
+	private static final Pattern PASSWORD_FIELD = Pattern.compile(
+			"(\"[A-Za-z]*[Pp]assword\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*\"");
+	/**
+	 * 수집 한도에서 잘려 닫는 따옴표 없이 끝나는 비밀번호 값입니다.
+	 */
+	private static final Pattern TRUNCATED_PASSWORD_FIELD = Pattern.compile(
+			"(\"[A-Za-z]*[Pp]assword\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*\\\\?$");
+
+	private final byte[] buffer;
+	private int captured;
+	private long total;
+	private ServletInputStream inputStream;
+	private BufferedReader reader;
+
+	BodyCaptureRequestWrapper(HttpServletRequest request, byte[] buffer) {
+		super(request);
+		this.buffer = buffer;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		if (inputStream == null) {
+			inputStream = new CapturingInputStream(super.getInputStream());
+		}
+		return inputStream;
+	}
+
+	@Override
+	public BufferedReader getReader() throws IOException {
+		if (reader == null) {
+			String encoding = getCharacterEncoding();
+			Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+			reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+		return reader;
+	}
+
+	byte[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * 지금까지 읽힌 본문의 앞부분을 반환합니다. 비밀번호 필드의 값은 잘린 본문 끝에 걸친 값까지 가립니다.
+	 *
+	 * @return 수집된 본문, 읽힌 본문이 없으면 null
+	 */
+	String snippet() {
+		if (total == 0) {
+			return null;
+		}
+		String body = PASSWORD_FIELD.matcher(new String(buffer, 0, captured, StandardCharsets.UTF_8))
+				.replaceAll("$1\"****\"");
+		body = TRUNCATED_PASSWORD_FIELD.matcher(body).replaceFirst("$1\"****");
+		return total > captured ? body + "...(" + total + " bytes)" : body;
+	}
+
+	private void record(byte[] bytes, int offset, int length) {
+		total += length;
+		int copy = Math.min(length, buffer.length - captured);
+		if (copy > 0) {
+			System.arraycopy(bytes, offset, buffer, captured, copy);
+			captured += copy;
+		}
+	}
+
+	private class CapturingInputStream extends ServletInputStream {
+
+		private final ServletInputStream delegate;
+
+		private CapturingInputStream(ServletInputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = delegate.read();
+			if (b >= 0) {
+				total++;
+				if (captured < buffer.length) {
+					buffer[captured++] = (byte) b;
+				}
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = delegate.read(b, off, len);
+			if (read > 0) {
+				record(b, off, read);
+			}
+			return read;
+		}
+
+		@Override
+		public boolean isFinished() {
+			return delegate.isFinished();
+		}
+
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			delegate.setReadListener(readListener);
+		}
+	}
+}
@@ -1,32 +1,107 @@
 package com.donut.swaipe.global.exception.config;
 
+import com.donut.swaipe.config.BodyCaptureProperties;
+import com.donut.swaipe.global.security.route.PublicRoute;
+import com.donut.swaipe.global.security.route.RouteMatcher;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.stereotype.Component;
 
+/**
+ * 필터 체인에서 발생한 오류를 추적 ID와 함께 기록하는 필터입니다.
+ *
+ * <p>설정된 경로이거나 진단 헤더가 붙은 요청(진단 헤더를 허용한 프로필에서만)은 핸들러가 읽는 본문의
+ * 앞부분을 풀에서 빌린 버퍼에 함께 기록하고, 오류가 나거나 5xx로 응답하면 그 내용을 오류 로그에 붙입니다.
+ * 그 외의 요청은 감싸지 않고 그대로 전달합니다. 요청이 끝나면 이 필터가 MDC에 넣은 키만 지우므로 요청 ID 등
+ * 다른 필터의 값은 남습니다.</p>
+ *
+ * @author donut
+ * @version 1.1
+ * @since 2024-01-28
+ */
 @Slf4j
 @Component
+@EnableConfigurationProperties(BodyCaptureProperties.class)
 public class ErrorTrackingFilter implements Filter {
+
+    private static final String ERROR_ID_KEY = "errorId";
+    private static final String PATH_KEY = "path";
+    private static final String REQUEST_BODY_KEY = "requestBody";
+
+    private final BodyCaptureProperties properties;
+    private final RouteMatcher captureRoutes;
+    private final BodyCaptureBufferPool bufferPool;
+    private final boolean diagnosticHeaderEnabled;
+
+    public ErrorTrackingFilter(BodyCaptureProperties properties, Environment environment) {
+        this.properties = properties;
+        this.captureRoutes = RouteMatcher.compile(properties.getRoutes().stream()
+                .map(PublicRoute::of)
+                .toList());
+        this.bufferPool = new BodyCaptureBufferPool(properties.getMaxBytes(), properties.getPoolSize());
+        this.diagnosticHeaderEnabled = !properties.getDiagnosticHeaderProfiles().isEmpty()
+                && environment.acceptsProfiles(Profiles.of(
+                        properties.getDiagnosticHeaderProfiles().toArray(String[]::new)));
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
 		    throws ServletException, IOException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        BodyCaptureRequestWrapper captured = wrapIfCaptured(httpRequest);
         try {
-            chain.doFilter(request, response);
+            chain.doFilter(captured != null ? captured : request, response);
+            if (captured != null && ((HttpServletResponse) response).getStatus() >= 500) {
+                putContext(httpRequest, captured);
+                log.error("Request completed with server error: status={}",
+                        ((HttpServletResponse) response).getStatus());
+            }
         } catch (Exception e) {
-            MDC.put("errorId", UUID.randomUUID().toString());
-            MDC.put("path", ((HttpServletRequest) request).getRequestURI());
+            putContext(httpRequest, captured);
             log.error("Error occurred in filter chain", e);
             throw e;
         } finally {
-            MDC.clear();
+            MDC.remove(ERROR_ID_KEY);
+            MDC.remove(PATH_KEY);
+            MDC.remove(REQUEST_BODY_KEY);
+            if (captured != null) {
+                bufferPool.release(captured.getBuffer());
+            }
+        }
+    }
+
+    private BodyCaptureRequestWrapper wrapIfCaptured(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        boolean flagged = diagnosticHeaderEnabled
+                && request.getHeader(properties.getDiagnosticHeader()) != null;
+        if (!flagged && (captureRoutes.size() == 0 || !captureRoutes.matches(request.getMethod(),
+                request.getRequestURI(), request.getContextPath().length()))) {
+            return null;
+        }
+        byte[] buffer = bufferPool.acquire();
+        return buffer != null ? new BodyCaptureRequestWrapper(request, buffer) : null;
+    }
+
+    private void putContext(HttpServletRequest request, BodyCaptureRequestWrapper captured) {
+        MDC.put(ERROR_ID_KEY, UUID.randomUUID().toString());
+        MDC.put(PATH_KEY, request.getRequestURI());
+        String snippet = captured != null ? captured.snippet() : null;
+        if (snippet != null) {
+            MDC.put(REQUEST_BODY_KEY, snippet);
         }
     }
-}
\ No newline at end of file
+}
@@ -7,10 +7,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FilterConfig {
     @Bean
-    public FilterRegistrationBean<ErrorTrackingFilter> errorTrackingFilter() {
+    public FilterRegistrationBean<ErrorTrackingFilter> errorTrackingFilterRegistration(
+            ErrorTrackingFilter errorTrackingFilter) {
         FilterRegistrationBean<ErrorTrackingFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new ErrorTrackingFilter());
+        registrationBean.setFilter(errorTrackingFilter);
         registrationBean.setOrder(1);
         return registrationBean;
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class DuplicateNicknameException extends CustomException {
+    public static final DuplicateNicknameException INSTANCE = new DuplicateNicknameException();
+
     public DuplicateNicknameException() {
         super(MessageCode.DUPLICATE_NICKNAME);
     }
@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class DuplicateUsernameException extends CustomException {
+    public static final DuplicateUsernameException INSTANCE = new DuplicateUsernameException();
+
     public DuplicateUsernameException() {
         super(MessageCode.DUPLICATE_USERNAME);
     }
@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class LogoutFailedException extends CustomException {
+    public static final LogoutFailedException INSTANCE = new LogoutFailedException();
+
     public LogoutFailedException() {
         super(MessageCode.LOGOUT_FAILED);
     }
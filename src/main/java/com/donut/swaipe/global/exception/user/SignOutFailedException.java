@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class SignOutFailedException extends CustomException {
+    public static final SignOutFailedException INSTANCE = new SignOutFailedException();
+
     public SignOutFailedException() {
         super(MessageCode.SIGNOUT_FAILED);
     }
@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class SignUpFailedException extends CustomException {
+    public static final SignUpFailedException INSTANCE = new SignUpFailedException();
+
     public SignUpFailedException() {
         super(MessageCode.SIGNUP_FAILED);
     }
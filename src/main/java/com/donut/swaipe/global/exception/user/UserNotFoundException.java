@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class UserNotFoundException extends CustomException {
+    public static final UserNotFoundException INSTANCE = new UserNotFoundException();
+
     public UserNotFoundException() {
         super(MessageCode.USER_NOT_FOUND);
     }
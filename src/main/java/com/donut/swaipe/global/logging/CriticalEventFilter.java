@@ -0,0 +1,47 @@
+package com.donut.swaipe.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.List;
+import org.slf4j.Marker;
+
+/**
+ * 반드시 남겨야 하는 이벤트(WARN 이상, {@link LogEvents#SECURITY} 마커)와 나머지를 나누는 어펜더 필터입니다.
+ *
+ * <p>{@code critical}이 true이면 반드시 남길 이벤트만, false이면 나머지만 통과시킵니다. 반드시 남길 이벤트는
+ * 버리지 않는 어펜더로, 나머지는 큐가 가득 차면 버리는 어펜더로 보내는 데 사용합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class CriticalEventFilter extends Filter<ILoggingEvent> {
+
+	private boolean critical = true;
+
+	public void setCritical(boolean critical) {
+		this.critical = critical;
+	}
+
+	@Override
+	public FilterReply decide(ILoggingEvent event) {
+		return isCritical(event) == critical ? FilterReply.NEUTRAL : FilterReply.DENY;
+	}
+
+	static boolean isCritical(ILoggingEvent event) {
+		if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+			return true;
+		}
+		List<Marker> markers = event.getMarkerList();
+		if (markers != null) {
+			for (Marker marker : markers) {
+				if (marker.contains(LogEvents.SECURITY)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,36 @@
+package com.donut.swaipe.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 이벤트 수를 집계하는 비동기 어펜더입니다.
+ *
+ * <p>Logback의 {@link AsyncAppender}는 큐가 가득 차면({@code neverBlock}) 또는 남은 용량이 폐기 임계값
+ * 아래로 내려가면 INFO 이하 이벤트를 조용히 버립니다. 이 어펜더는 같은 조건으로 버려지는 이벤트를 세어
+ * {@code logging.async.dropped} 지표로 내보냅니다. 판단은 적재 직전의 남은 용량으로 하므로 동시 적재가
+ * 겹치면 근사값입니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class DropAccountingAsyncAppender extends AsyncAppender {
+
+	private static final LongAdder DROPPED = new LongAdder();
+
+	public static long droppedEvents() {
+		return DROPPED.sum();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		int remaining = getRemainingCapacity();
+		if ((remaining == 0 && isNeverBlock())
+				|| (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+			DROPPED.increment();
+		}
+		super.append(event);
+	}
+}
@@ -0,0 +1,50 @@
+package com.donut.swaipe.global.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 로그 이벤트 종류를 나타내는 마커입니다.
+ *
+ * <p>성공 경로 마커가 붙은 INFO 이하 로그는 {@link SamplingTurboFilter}의 비율에 따라 일부만 남습니다.
+ * {@link #SECURITY} 마커가 붙었거나 WARN 이상인 로그는 항상 남습니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LogEvents {
+
+	/**
+	 * 인증 없이 허용된 요청
+	 */
+	public static final Marker PERMIT_ALL = MarkerFactory.getMarker("permit_all");
+
+	/**
+	 * 액세스 토큰 검증 성공
+	 */
+	public static final Marker TOKEN_VALIDATED = MarkerFactory.getMarker("token_validated");
+
+	/**
+	 * 리프레시 토큰 조회와 검증 성공
+	 */
+	public static final Marker TOKEN_LOOKUP = MarkerFactory.getMarker("token_lookup");
+
+	/**
+	 * 리프레시 토큰 저장과 교체 성공
+	 */
+	public static final Marker TOKEN_SAVED = MarkerFactory.getMarker("token_saved");
+
+	/**
+	 * 액세스 토큰 재발급 성공
+	 */
+	public static final Marker TOKEN_REISSUED = MarkerFactory.getMarker("token_reissued");
+
+	/**
+	 * 로그아웃, 세션 폐기, 권한 변경처럼 감사가 필요한 이벤트
+	 */
+	public static final Marker SECURITY = MarkerFactory.getMarker("security");
+
+	private LogEvents() {
+	}
+}
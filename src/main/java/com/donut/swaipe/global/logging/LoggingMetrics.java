@@ -0,0 +1,25 @@
+package com.donut.swaipe.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 로그 어펜더가 버린 이벤트 수를 지표로 등록합니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("logging.async.dropped", DropAccountingAsyncAppender.class,
+						appender -> DropAccountingAsyncAppender.droppedEvents())
+				.description("비동기 로그 큐가 가득 차 버려진 이벤트 수")
+				.register(registry);
+	}
+}
@@ -0,0 +1,51 @@
+package com.donut.swaipe.global.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 ID를 정해 MDC({@value #MDC_KEY})와 응답 헤더에 담는 필터입니다.
+ *
+ * <p>보안 필터보다 먼저 실행되므로 인증, 인가, 오류 로그가 모두 같은 요청 ID로 묶입니다. 앞단 프록시가
+ * {@value #HEADER} 헤더로 넘긴 ID가 형식에 맞으면 그대로 쓰고, 없으면 새로 만듭니다. 요청이 끝나면 이
+ * 필터가 넣은 키만 지웁니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+	public static final String MDC_KEY = "requestId";
+	public static final String HEADER = "X-Request-Id";
+	private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+		String requestId = request.getHeader(HEADER);
+		if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+			requestId = UUID.randomUUID().toString();
+		}
+
+		MDC.put(MDC_KEY, requestId);
+		response.setHeader(HEADER, requestId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.donut.swaipe.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Marker;
+
+/**
+ * 이벤트 종류(마커)별 비율로 성공 경로 로그를 표본 추출하는 Logback 터보 필터입니다.
+ *
+ * <p>터보 필터는 로그 이벤트 객체를 만들기 전에 실행되므로, 버려지는 로그는 메시지 포맷팅과 큐 적재 비용이
+ * 들지 않습니다. WARN 이상이거나 {@link LogEvents#SECURITY} 마커가 붙은 로그, 비율이 설정되지 않은 마커의
+ * 로그는 판단하지 않고 다음 필터로 넘깁니다.</p>
+ *
+ * <pre>{@code
+ * <turboFilter class="com.donut.swaipe.global.logging.SamplingTurboFilter">
+ *   <rates>permit_all=0,token_validated=0.01</rates>
+ * </turboFilter>
+ * }</pre>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	private Map<String, Double> rates = Map.of();
+
+	/**
+	 * {@code 마커=비율} 목록을 쉼표로 구분해 설정합니다. 비율은 0(모두 버림)부터 1(모두 남김)까지입니다.
+	 *
+	 * @param rates 마커별 표본 비율
+	 */
+	public void setRates(String rates) {
+		Map<String, Double> parsed = new HashMap<>();
+		for (String entry : rates.split(",")) {
+			int separator = entry.indexOf('=');
+			if (separator <= 0) {
+				continue;
+			}
+			try {
+				double rate = Double.parseDouble(entry.substring(separator + 1).trim());
+				parsed.put(entry.substring(0, separator).trim(), Math.max(0, Math.min(1, rate)));
+			} catch (NumberFormatException e) {
+				addWarn("잘못된 표본 비율 설정: " + entry);
+			}
+		}
+		this.rates = Map.copyOf(parsed);
+	}
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+			Object[] params, Throwable t) {
+		if (marker == null || level == null || level.isGreaterOrEqual(Level.WARN)
+				|| marker.contains(LogEvents.SECURITY)) {
+			return FilterReply.NEUTRAL;
+		}
+		Double rate = rates.get(marker.getName());
+		if (rate == null || rate >= 1) {
+			return FilterReply.NEUTRAL;
+		}
+		return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate
+				? FilterReply.NEUTRAL
+				: FilterReply.DENY;
+	}
+}
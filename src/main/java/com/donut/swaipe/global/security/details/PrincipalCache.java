@@ -0,0 +1,312 @@
+package com.donut.swaipe.global.security.details;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인가 필터가 요청마다 조회하는 사용자 정보를 보관하는 2단계 캐시입니다.
+ *
+ * <p>1단계는 노드 메모리의 캐시로, 크기와 보관 시간이 제한됩니다. 2단계는 선택적인 Redis 캐시
+ * ({@code UP:<username>})로, 노드가 새로 뜨거나 1단계에서 밀려난 사용자를 DB 대신 채웁니다. 두 단계 모두
+ * JPA 엔티티가 아닌 비밀번호 해시를 뺀 불변 {@link UserDetailsImpl}을 저장합니다.</p>
+ *
+ * <p>같은 사용자에 대한 동시 조회는 하나의 적재로 합쳐집니다. 적재는 호출한 스레드에서 실행하므로 트랜잭션과
+ * 읽기 라우팅 문맥이 그대로 유지됩니다. 사용자 정보가 바뀌면 트랜잭션 커밋 후 두 단계에서 항목을 지우고
+ * {@value #CHANNEL} 채널로 다른 노드의 1단계 캐시도 지웁니다. 무효화 전에 시작된 적재의 결과는 캐시에
+ * 남지 않습니다. 2단계에는 사용자별 무효화 세대({@code UPG:<username>})를 두고, 적재를 시작할 때 읽은
+ * 세대가 그대로일 때만 저장합니다. 메시지를 놓친 경우에도 보관 시간이 지나면 다시 적재됩니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener, MeterBinder {
+
+	public static final String CHANNEL = "principal-invalidate";
+	private static final String KEY_PREFIX = "UP:";
+	private static final String GENERATION_PREFIX = "UPG:";
+	private static final RedisScript<Long> SET_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/principal-cache-set.lua"), Long.class);
+	private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/principal-cache-invalidate.lua"), Long.class);
+	private static final String METRIC_NAME = "principal_cache.requests";
+	private static final char SEPARATOR = ':';
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final boolean enabled;
+	private final boolean redisEnabled;
+	private final Duration redisTtl;
+	private final AsyncCache<String, UserDetailsImpl> localCache;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder redisHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder redisErrors = new LongAdder();
+	private volatile Timer loadTimer;
+
+	public PrincipalCache(RedisTemplate<String, String> redisTemplate,
+			RedisMessageListenerContainer listenerContainer,
+			@Value("${principal-cache.enabled:true}") boolean enabled,
+			@Value("${principal-cache.maximum-size:100000}") long maximumSize,
+			@Value("${principal-cache.ttl:5m}") Duration ttl,
+			@Value("${principal-cache.redis.enabled:false}") boolean redisEnabled,
+			@Value("${principal-cache.redis.ttl:30m}") Duration redisTtl) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.enabled = enabled;
+		this.redisEnabled = redisEnabled;
+		this.redisTtl = redisTtl;
+		this.localCache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.buildAsync();
+	}
+
+	/**
+	 * 무효화 채널 구독을 등록합니다.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+		}
+	}
+
+	/**
+	 * 사용자 정보를 캐시를 거쳐 조회합니다. 1단계에 없으면 2단계를, 그래도 없으면 {@code loader}로 DB에서
+	 * 적재합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param loader   DB 적재 함수
+	 * @return 비밀번호 해시가 없는 사용자 정보
+	 */
+	public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+		if (!enabled) {
+			return loader.apply(username).withoutPassword();
+		}
+
+		CompletableFuture<UserDetailsImpl> created = new CompletableFuture<>();
+		CompletableFuture<UserDetailsImpl> existing = localCache.asMap()
+				.putIfAbsent(username, created);
+		if (existing != null) {
+			if (existing.isDone()) {
+				hits.increment();
+			} else {
+				coalesced.increment();
+			}
+			return join(existing);
+		}
+
+		long startedAt = System.nanoTime();
+		try {
+			UserDetailsImpl principal = load(username, loader, created);
+			created.complete(principal);
+			return principal;
+		} catch (RuntimeException e) {
+			localCache.asMap().remove(username, created);
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			Timer timer = loadTimer;
+			if (timer != null) {
+				timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤 사용자의 캐시 항목을 모든 노드에서 지웁니다. 트랜잭션 밖에서는 바로 지웁니다.
+	 *
+	 * @param username 사용자 이름
+	 */
+	public void invalidateAfterCommit(String username) {
+		if (!enabled) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidate(username);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidate(username);
+			}
+		});
+	}
+
+	private void invalidate(String username) {
+		localCache.synchronous().invalidate(username);
+		try {
+			if (redisEnabled) {
+				redisTemplate.execute(INVALIDATE_SCRIPT, redisKeys(username),
+						String.valueOf(redisTtl.toMillis()));
+			}
+			redisTemplate.convertAndSend(CHANNEL, username);
+		} catch (Exception e) {
+			redisErrors.increment();
+			log.warn("사용자 캐시 무효화 전파 실패: username={}, reason={}", username, e.getMessage());
+		}
+	}
+
+	private UserDetailsImpl load(String username, Function<String, UserDetailsImpl> loader,
+			CompletableFuture<UserDetailsImpl> created) {
+		List<String> stored = readRedis(username);
+		UserDetailsImpl cached = stored != null ? decode(username, stored.get(0)) : null;
+		if (cached != null) {
+			redisHits.increment();
+			return cached;
+		}
+
+		misses.increment();
+		UserDetailsImpl principal = loader.apply(username).withoutPassword();
+		// 적재하는 동안 무효화되었다면 이전 값을 2단계에 남기지 않습니다
+		if (stored != null && localCache.asMap().get(username) == created) {
+			writeRedis(principal, stored.get(1));
+		}
+		return principal;
+	}
+
+	/**
+	 * 2단계의 값과 무효화 세대를 함께 읽습니다.
+	 *
+	 * @return [값, 세대], 2단계를 쓰지 않거나 조회에 실패하면 null
+	 */
+	private List<String> readRedis(String username) {
+		if (!redisEnabled) {
+			return null;
+		}
+		try {
+			List<String> stored = redisTemplate.opsForValue().multiGet(redisKeys(username));
+			return stored != null && stored.size() == 2 ? stored : null;
+		} catch (Exception e) {
+			redisErrors.increment();
+			log.debug("사용자 캐시 조회 실패: username={}, reason={}", username, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 적재를 시작할 때 읽은 세대가 그대로일 때만 2단계에 저장합니다. 다른 노드에서 그사이 무효화했다면 세대가
+	 * 올라가 있으므로 저장하지 않습니다.
+	 */
+	private void writeRedis(UserDetailsImpl principal, String generation) {
+		try {
+			redisTemplate.execute(SET_SCRIPT, redisKeys(principal.getUsername()), encode(principal),
+					generation != null ? generation : "", String.valueOf(redisTtl.toMillis()));
+		} catch (Exception e) {
+			redisErrors.increment();
+			log.debug("사용자 캐시 저장 실패: username={}, reason={}", principal.getUsername(),
+					e.getMessage());
+		}
+	}
+
+	private static List<String> redisKeys(String username) {
+		return List.of(KEY_PREFIX + username, GENERATION_PREFIX + username);
+	}
+
+	/**
+	 * {@code <id>:<role>:<nickname>} 형식으로 직렬화합니다. 닉네임은 구분자를 포함할 수 있으므로 마지막에
+	 * 둡니다.
+	 */
+	private static String encode(UserDetailsImpl principal) {
+		return principal.getId() + String.valueOf(SEPARATOR) + principal.getUserRole().name()
+				+ SEPARATOR + principal.getNickname();
+	}
+
+	private static UserDetailsImpl decode(String username, String value) {
+		if (value == null) {
+			return null;
+		}
+		String[] parts = value.split(String.valueOf(SEPARATOR), 3);
+		if (parts.length != 3) {
+			return null;
+		}
+		return UserDetailsImpl.principal(Long.parseLong(parts[0]), username, parts[2],
+				UserRole.valueOf(parts[1]));
+	}
+
+	private static UserDetailsImpl join(CompletableFuture<UserDetailsImpl> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 다른 노드가 보낸 무효화 메시지를 반영합니다. 메시지 본문은 사용자 이름입니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		localCache.synchronous().invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(METRIC_NAME, hits, LongAdder::sum)
+				.tag("result", "hit")
+				.register(registry);
+		FunctionCounter.builder(METRIC_NAME, coalesced, LongAdder::sum)
+				.tag("result", "coalesced")
+				.register(registry);
+		FunctionCounter.builder(METRIC_NAME, redisHits, LongAdder::sum)
+				.tag("result", "redis_hit")
+				.register(registry);
+		FunctionCounter.builder(METRIC_NAME, misses, LongAdder::sum)
+				.tag("result", "miss")
+				.register(registry);
+		FunctionCounter.builder("principal_cache.redis.errors", redisErrors, LongAdder::sum)
+				.register(registry);
+		Gauge.builder("principal_cache.hit_ratio", this, PrincipalCache::hitRatio)
+				.register(registry);
+		Gauge.builder("principal_cache.size", localCache,
+						cache -> cache.synchronous().estimatedSize())
+				.register(registry);
+		loadTimer = Timer.builder("principal_cache.load")
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+
+	/**
+	 * DB 적재 없이 처리된 조회의 비율입니다. 합쳐진 조회와 2단계 적중을 포함합니다.
+	 */
+	private double hitRatio() {
+		double served = hits.sum() + coalesced.sum() + redisHits.sum();
+		double total = served + misses.sum();
+		return total == 0 ? 0 : served / total;
+	}
+}
@@ -9,30 +9,80 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import com.donut.swaipe.domain.user.entity.User;
 import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
 
 import lombok.Getter;
 
+/**
+ * 인증된 사용자의 불변 스냅샷입니다. JPA 엔티티를 직접 참조하지 않습니다.
+ *
+ * <p>토큰 클레임으로 생성된 경우 비밀번호 해시를 가지지 않으므로 {@link #getPassword()}는 null을
+ * 반환합니다. 비밀번호가 필요한 작업은 DB에서 사용자를 다시 조회해야 합니다.</p>
+ */
 @Getter
 public class UserDetailsImpl implements UserDetails {
-	private final User user;
+	private final Long id;
+	private final String username;
+	private final String password;
+	private final String nickname;
+	private final UserRole userRole;
 
 	public UserDetailsImpl(User user) {
-		this.user = user;
+		this(user.getId(), user.getUsername(), user.getPassword(), user.getNickname(),
+				user.getUserRole());
 	}
 
-	@Override
-	public Collection<? extends GrantedAuthority> getAuthorities() {
-		return List.of(new SimpleGrantedAuthority(user.getUserRole().getAuthority()));
+	private UserDetailsImpl(Long id, String username, String password, String nickname,
+			UserRole userRole) {
+		this.id = id;
+		this.username = username;
+		this.password = password;
+		this.nickname = nickname;
+		this.userRole = userRole;
 	}
 
-	@Override
-	public String getPassword() {
-		return user.getPassword();
+	/**
+	 * 검증된 액세스 토큰의 클레임으로 인가 주체를 생성합니다.
+	 *
+	 * @param verifiedToken 인가 주체 클레임을 포함한 검증된 토큰
+	 * @return 비밀번호 해시가 없는 인가 주체
+	 */
+	public static UserDetailsImpl fromToken(VerifiedToken verifiedToken) {
+		return new UserDetailsImpl(
+				verifiedToken.getUserId(),
+				verifiedToken.getSubject(),
+				null,
+				verifiedToken.getNickname(),
+				verifiedToken.getRole()
+		);
+	}
+
+	/**
+	 * 비밀번호 해시를 제외한 인가 주체를 생성합니다. 캐시에 보관하거나 노드 사이에 공유할 때 사용합니다.
+	 *
+	 * @param id       사용자 식별자
+	 * @param username 사용자 이름
+	 * @param nickname 닉네임
+	 * @param userRole 사용자 권한
+	 * @return 비밀번호 해시가 없는 인가 주체
+	 */
+	public static UserDetailsImpl principal(Long id, String username, String nickname,
+			UserRole userRole) {
+		return new UserDetailsImpl(id, username, null, nickname, userRole);
+	}
+
+	/**
+	 * 비밀번호 해시를 제외한 사본을 반환합니다.
+	 *
+	 * @return 비밀번호 해시가 없는 인가 주체
+	 */
+	public UserDetailsImpl withoutPassword() {
+		return password == null ? this : principal(id, username, nickname, userRole);
 	}
 
 	@Override
-	public String getUsername() {
-		return user.getUsername();
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return List.of(new SimpleGrantedAuthority(userRole.getAuthority()));
 	}
 
 	@Override
@@ -54,8 +104,4 @@ public class UserDetailsImpl implements UserDetails {
 	public boolean isEnabled() {
 		return true;
 	}
-
-	public UserRole getUserRole() {
-		return user.getUserRole();
-	}
 }
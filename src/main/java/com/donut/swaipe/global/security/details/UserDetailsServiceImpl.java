@@ -2,24 +2,69 @@ package com.donut.swaipe.global.security.details;
 
 import com.donut.swaipe.domain.user.entity.User;
 import com.donut.swaipe.domain.user.repository.UserRepository;
-import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.datasource.ReadYourWritesTracker;
 import com.donut.swaipe.global.exception.user.UserNotFoundException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.password.PasswordHashingCalibration;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
 	private final UserRepository userRepository;
+	private final PasswordHashingCalibration passwordHashingCalibration;
+	private final ReadYourWritesTracker readYourWritesTracker;
+	private final PrincipalCache principalCache;
 
+	/**
+	 * 사용자를 조회합니다. 인증 전이라 현재 사용자가 정해지지 않았으므로 조회할 사용자 이름으로 복제본 라우팅
+	 * 여부를 판단합니다. 방금 정보를 수정한 사용자는 주 DB에서 조회됩니다.
+	 */
 	@Override
-	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		return userRepository.findByUsername(username)
+	public UserDetailsImpl loadUserByUsername(String username) throws UsernameNotFoundException {
+		return readYourWritesTracker.callAs(username, () -> userRepository.findByUsername(username)
 				.map(UserDetailsImpl::new)
-				.orElseThrow(() -> new UserNotFoundException());
+				.orElseThrow(() -> UserNotFoundException.INSTANCE));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 인가 필터가 사용할 사용자 정보를 캐시를 거쳐 조회합니다. 로그인은 항상 최신 비밀번호 해시로 검증해야
+	 * 하므로 {@link #loadUserByUsername}을 사용하며, 이 메소드가 반환하는 사용자 정보에는 비밀번호 해시가
+	 * 없습니다.
+	 *
+	 * @param username 사용자 이름
+	 * @return 비밀번호 해시가 없는 사용자 정보
+	 * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+	 */
+	public UserDetailsImpl loadPrincipal(String username) {
+		return principalCache.get(username, this::loadUserByUsername);
+	}
+
+	/**
+	 * 로그인에 성공한 사용자의 해시가 현재 알고리즘이나 파라미터보다 오래된 경우 새 해시로 저장합니다.
+	 * 인증 제공자가 방금 검증한 평문 비밀번호로 만든 해시를 넘겨주므로 사용자는 변화를 느끼지 않습니다.
+	 *
+	 * @param user        인증된 사용자
+	 * @param newPassword 현재 파라미터로 만든 해시
+	 * @return 새 해시를 담은 사용자 정보
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		User entity = userRepository.findByUsername(user.getUsername())
+				.orElseThrow(() -> UserNotFoundException.INSTANCE);
+		entity.updatePassword(newPassword);
+		passwordHashingCalibration.recordRehash();
+		log.info(LogEvents.SECURITY, "비밀번호 해시 갱신: username={}", entity.getUsername());
+		return new UserDetailsImpl(entity);
+	}
+}
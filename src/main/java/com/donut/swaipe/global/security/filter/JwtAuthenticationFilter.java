@@ -5,16 +5,26 @@ import static com.donut.swaipe.global.common.MessageCode.*;
 import com.donut.swaipe.domain.auth.dto.TokenDto;
 import com.donut.swaipe.domain.user.service.RedisService;
 import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.ErrorResponses;
 import com.donut.swaipe.global.common.MessageCode;
+import com.donut.swaipe.global.exception.auth.PasswordHashingBusyException;
+import com.donut.swaipe.global.logging.LogEvents;
 import com.donut.swaipe.global.security.details.UserDetailsImpl;
 import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.password.OffloadingPasswordEncoder;
+import com.donut.swaipe.global.security.ratelimit.LoginRateLimiter;
+import com.donut.swaipe.global.security.ratelimit.LoginRateLimiter.Scope;
+import com.donut.swaipe.global.security.route.RoutePolicyRegistry;
 import com.donut.swaipe.domain.user.dto.LoginRequestDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -24,28 +34,70 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
 	private final JwtProvider jwtProvider;
+	private final TokenVersionRegistry tokenVersionRegistry;
 	private final RedisService redisService;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ObjectMapper objectMapper;
+	private final ObjectReader loginRequestReader;
+	private final ErrorResponses errorResponses;
 
 	public JwtAuthenticationFilter(JwtProvider jwtProvider,
-			RedisService redisService) {
+			TokenVersionRegistry tokenVersionRegistry, RedisService redisService,
+			LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper,
+			ErrorResponses errorResponses) {
 		this.jwtProvider = jwtProvider;
+		this.tokenVersionRegistry = tokenVersionRegistry;
 		this.redisService = redisService;
-		setFilterProcessesUrl("/users/login");
+		this.loginRateLimiter = loginRateLimiter;
+		this.objectMapper = objectMapper;
+		this.loginRequestReader = objectMapper.readerFor(LoginRequestDto.class);
+		this.errorResponses = errorResponses;
+		setFilterProcessesUrl(RoutePolicyRegistry.LOGIN_PATH);
 	}
 
+	/**
+	 * 로그인을 시도합니다. 요청 본문을 읽기 전에 클라이언트 IP 기준 제한을, 비밀번호를 검증하기 전에 사용자
+	 * 이름 기준 제한을 확인합니다. 제한에 걸리면 429 응답을 보내고 null을 반환하여 인증 처리를 끝냅니다.
+	 * 비밀번호 해싱 대기열이 가득 차 검증하지 못하면 503 응답을 보냅니다.
+	 */
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest req, HttpServletResponse res)
 			throws AuthenticationException {
 		try {
-			return handleStandardLogin(req);
+			long retryAfter = loginRateLimiter.tryAcquire(Scope.IP, req.getRemoteAddr());
+			if (retryAfter > 0) {
+				loginRateLimiter.reject(res, retryAfter);
+				return null;
+			}
+			return handleStandardLogin(req, res);
+		} catch (PasswordHashingBusyException e) {
+			log.warn("비밀번호 해싱 대기열 포화로 로그인 거절");
+			rejectBusy(res);
+			return null;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
-	private Authentication handleStandardLogin(HttpServletRequest req) throws IOException {
-		LoginRequestDto requestDto = new ObjectMapper().readValue(req.getInputStream(),
-				LoginRequestDto.class);
+	private void rejectBusy(HttpServletResponse res) {
+		try {
+			errorResponses.write(res, HttpStatus.SERVICE_UNAVAILABLE, PASSWORD_HASHING_BUSY,
+					OffloadingPasswordEncoder.RETRY_AFTER_SECONDS);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private Authentication handleStandardLogin(HttpServletRequest req, HttpServletResponse res)
+			throws IOException {
+		LoginRequestDto requestDto = loginRequestReader.readValue(req.getInputStream());
+
+		long retryAfter = loginRateLimiter.tryAcquire(Scope.USERNAME, requestDto.getUsername());
+		if (retryAfter > 0) {
+			loginRateLimiter.reject(res, retryAfter);
+			return null;
+		}
+
 		return getAuthenticationManager().authenticate(
 				new UsernamePasswordAuthenticationToken(
 						requestDto.getUsername(),
@@ -62,15 +114,17 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 		UserDetailsImpl userDetails = (UserDetailsImpl) authResult.getPrincipal();
 		String username = userDetails.getUsername();
 
-		// Access Token과 Refresh Token 생성
+		// Access Token과 Refresh Token 생성 (토큰 버전은 한 번만 조회)
+		int version = tokenVersionRegistry.mintVersion(username);
 		String accessToken = jwtProvider.createAccessToken(username,
-				userDetails.getUserRole());
+				userDetails.getUserRole(), userDetails.getId(), userDetails.getNickname(), version);
 		String refreshToken = jwtProvider.createRefreshToken(username,
-				userDetails.getUserRole());
+				userDetails.getUserRole(), userDetails.getId(), userDetails.getNickname(), version);
 
 		// Refresh Token을 Redis에 저장
-		redisService.saveRefreshToken(username, refreshToken);
-		log.info("Refresh Token saved for user: {}", username);
+		redisService.saveRefreshToken(username, refreshToken, userDetails.getUserRole(),
+				userDetails.getId(), userDetails.getNickname());
+		log.info(LogEvents.TOKEN_SAVED, "Refresh Token saved for user: {}", username);
 
 		// 응답 바디에 성공 메시지와 토큰 포함
 		response.setContentType("application/json");
@@ -79,15 +133,12 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 		TokenDto tokenDto = new TokenDto(accessToken);
 		ApiResponse<TokenDto> apiResponse = ApiResponse.success(USER_LOGIN, tokenDto);
 
-		ObjectMapper objectMapper = new ObjectMapper();
 		response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
 	}
 
 	@Override
 	protected void unsuccessfulAuthentication(HttpServletRequest req, HttpServletResponse res,
 			AuthenticationException failed) throws IOException {
-		res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-		res.getWriter()
-				.print("{\"error\":\"Unauthorized\", \"message\":\"" + failed.getMessage() + "\"}");
+		errorResponses.write(res, HttpStatus.UNAUTHORIZED, AUTHENTICATION_FAILED);
 	}
 }
\ No newline at end of file
@@ -2,22 +2,32 @@ package com.donut.swaipe.global.security.filter;
 
 import static com.donut.swaipe.global.common.MessageCode.AUTHORIZED_ERROR;
 import static com.donut.swaipe.global.common.MessageCode.GENERATE_TOKEN;
+import static com.donut.swaipe.global.common.MessageCode.TOKEN_STORE_UNAVAILABLE;
 
+import com.donut.swaipe.config.TokenStoreProperties.RotationPolicy;
 import com.donut.swaipe.domain.auth.dto.TokenDto;
-import com.donut.swaipe.domain.user.enums.UserRole;
-import com.donut.swaipe.domain.user.service.RedisService;
+import com.donut.swaipe.domain.auth.service.TokenReissueService;
+import com.donut.swaipe.domain.user.service.RefreshTokenNearCache;
+import com.donut.swaipe.domain.user.service.StoredRefreshToken;
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
 import com.donut.swaipe.global.common.ApiResponse;
+import com.donut.swaipe.global.common.ErrorResponses;
 import com.donut.swaipe.global.common.MessageCode;
 import com.donut.swaipe.global.exception.auth.InvalidTokenException;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.donut.swaipe.global.logging.LogEvents;
+import com.donut.swaipe.global.security.details.UserDetailsImpl;
 import com.donut.swaipe.global.security.details.UserDetailsServiceImpl;
 import com.donut.swaipe.global.security.jwt.JwtProvider;
+import com.donut.swaipe.global.security.jwt.TokenVersionRegistry;
+import com.donut.swaipe.global.security.jwt.VerifiedToken;
+import com.donut.swaipe.global.security.route.RoutePolicyRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -33,7 +43,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * JWT 인증을 처리하는 필터 클래스입니다. 모든 HTTP 요청에 대해 JWT 토큰을 검증하고 인증을 처리합니다.
  *
  * @author donut
- * @version 1.1
+ * @version 1.4
  * @since 2024-01-28
  */
 @Slf4j
@@ -42,21 +52,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 	private static final String BEARER_PREFIX = "Bearer ";
-	private static final List<String> PERMIT_ALL_PATHS = List.of(
-			"/users/login",
-			"/users",
-			"/users/refresh",
-			"/swagger-ui",
-			"/v3/api-docs",
-			"/swagger-resources",
-			"/v3/api-docs.yaml",
-			"/webjars"
-	);
 
+	private final RoutePolicyRegistry routePolicyRegistry;
 	private final JwtProvider jwtProvider;
 	private final UserDetailsServiceImpl userDetailsService;
-	private final RedisService redisService;
+	private final TokenReissueService tokenReissueService;
+	private final RefreshTokenNearCache refreshTokenNearCache;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final TokenVersionRegistry tokenVersionRegistry;
 	private final ObjectMapper objectMapper;
+	private final ErrorResponses errorResponses;
+	private final boolean statelessPrincipal;
 
 	/**
 	 * JWT 인증 필터의 주요 처리 로직을 수행합니다.
@@ -71,8 +77,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
 			FilterChain filterChain) throws ServletException, IOException {
 		try {
-			if (isPermitAllRequest(req.getRequestURI())) {
-				log.info("Permitting request to: {}", req.getRequestURI());
+			if (routePolicyRegistry.matches(req)) {
+				log.info(LogEvents.PERMIT_ALL, "Permitting request to: {}", req.getRequestURI());
 				filterChain.doFilter(req, res);
 				return;
 			}
@@ -82,6 +88,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 		} catch (InvalidTokenException e) {
 			log.error("토큰 검증 실패: {}", e.getMessage());
 			sendResponse(res, HttpStatus.UNAUTHORIZED, e.getMessageCode(), null);
+		} catch (TokenStoreUnavailableException e) {
+			log.error("토큰 저장소 사용 불가: {}", e.getMessage());
+			sendResponse(res, HttpStatus.SERVICE_UNAVAILABLE, e.getMessageCode(), null);
 		} catch (Exception e) {
 			log.error("JWT 인증 처리 중 오류 발생", e);
 			sendResponse(res, HttpStatus.INTERNAL_SERVER_ERROR, AUTHORIZED_ERROR, null);
@@ -91,6 +100,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	/**
 	 * 토큰 기반 인증 처리를 수행합니다.
 	 *
+	 * <p>폐기 여부는 노드 메모리의 토큰 버전으로 먼저 판단합니다. 버전 상태가 동기화되어 있으면 만료되지 않은
+	 * 액세스 토큰은 리프레시 토큰을 조회하지 않고 통과시키며, 동기화되지 않은 동안에는 기존처럼 리프레시
+	 * 토큰의 존재를 확인합니다.</p>
+	 *
 	 * @param req         HTTP 요청
 	 * @param res         HTTP 응답
 	 * @param filterChain 필터 체인
@@ -102,17 +115,33 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 		String token = resolveToken(req);
 		validateTokenExists(token);
 
-		String username = jwtProvider.getUsernameFromToken(token);
-		validateRefreshTokenExists(username);
+		VerifiedToken verifiedToken = jwtProvider.verify(token);
+		if (verifiedToken.isInvalid() || tokenVersionRegistry.isRevoked(verifiedToken)) {
+			throw InvalidTokenException.INSTANCE;
+		}
+
+		if (verifiedToken.isValid() && tokenVersionRegistry.isSynced()) {
+			setAuthentication(verifiedToken);
+			filterChain.doFilter(req, res);
+			return;
+		}
+
+		String username = verifiedToken.getSubject();
+		StoredRefreshToken refreshToken;
+		try {
+			refreshToken = getRequiredRefreshToken(username);
+		} catch (TokenStoreUnavailableException e) {
+			handleDegraded(verifiedToken, req, res, filterChain);
+			return;
+		}
 
-		if (jwtProvider.validateToken(token)) {
-			log.info("액세스 토큰 검증 성공");
-			setAuthentication(username);
+		if (verifiedToken.isValid()) {
+			log.info(LogEvents.TOKEN_VALIDATED, "액세스 토큰 검증 성공");
+			setAuthentication(verifiedToken);
 			filterChain.doFilter(req, res);
 		} else {
-			log.info("액세스 토큰 만료. 리프레시 토큰으로 자동 재발급");
-			String refreshToken = redisService.getRefreshToken(username);
-			handleTokenReissue(username, refreshToken, res);
+			log.info(LogEvents.TOKEN_REISSUED, "액세스 토큰 만료. 리프레시 토큰으로 자동 재발급");
+			handleTokenReissue(token, verifiedToken, refreshToken, res);
 		}
 	}
 
@@ -130,17 +159,6 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 		return null;
 	}
 
-	/**
-	 * 요청 URI가 인증이 필요없는 경로인지 확인합니다.
-	 *
-	 * @param requestURI 검사할 요청 URI
-	 * @return 인증이 필요없는 경로인 경우 true
-	 */
-	private boolean isPermitAllRequest(String requestURI) {
-		return PERMIT_ALL_PATHS.stream()
-				.anyMatch(requestURI::startsWith);
-	}
-
 	/**
 	 * 토큰의 존재 여부를 검증합니다.
 	 *
@@ -149,74 +167,93 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	 */
 	private void validateTokenExists(String token) {
 		if (!StringUtils.hasText(token)) {
-			throw new InvalidTokenException();
+			throw InvalidTokenException.INSTANCE;
 		}
 	}
 
 	/**
-	 * 사용자의 리프레시 토큰 존재 여부를 검증합니다.
+	 * 사용자의 리프레시 토큰 레코드를 로컬 캐시를 거쳐 조회합니다. 조회한 레코드는 재발급 시 다시 조회하지
+	 * 않고 사용됩니다.
 	 *
 	 * @param username 검증할 사용자 이름
-	 * @throws InvalidTokenException 리프레시 토큰이 존재하지 않는 경우
+	 * @return 저장된 리프레시 토큰 레코드
+	 * @throws InvalidTokenException 리프레시 토큰이 존재하지 않거나 만료된 경우
 	 */
-	private void validateRefreshTokenExists(String username) {
-		String refreshToken = redisService.getRefreshToken(username);
+	private StoredRefreshToken getRequiredRefreshToken(String username) {
+		StoredRefreshToken refreshToken = refreshTokenNearCache.getStoredRefreshToken(username);
 		if (refreshToken == null) {
-			throw new InvalidTokenException();
+			throw InvalidTokenException.INSTANCE;
 		}
+		return refreshToken;
 	}
 
 	/**
-	 * 토큰 재발급 처리를 수행합니다.
+	 * 토큰 재발급 처리를 수행합니다. 리프레시 토큰의 만료는 Redis 만료 시간과 레코드의 발급 시각으로
+	 * 보장되므로 저장된 메타데이터로 바로 새 토큰을 발급합니다. 같은 사용자의 동시 재발급은
+	 * {@link TokenReissueService}가 하나로 합칩니다.
 	 *
-	 * @param username     사용자 이름
-	 * @param refreshToken 리프레시 토큰
+	 * @param token        만료된 액세스 토큰 원문
+	 * @param expiredToken 서명 검증을 통과한 같은 토큰
+	 * @param refreshToken 저장된 리프레시 토큰 레코드
 	 * @param res          HTTP 응답
 	 * @throws IOException 입출력 처리 중 오류 발생 시
 	 */
-	private void handleTokenReissue(String username, String refreshToken, HttpServletResponse res)
-			throws IOException {
-		if (!isValidRefreshToken(refreshToken)) {
-			throw new InvalidTokenException();
-		}
-
-		TokenDto newTokens = generateNewTokens(username, refreshToken);
+	private void handleTokenReissue(String token, VerifiedToken expiredToken,
+			StoredRefreshToken refreshToken, HttpServletResponse res) throws IOException {
+		TokenDto newTokens = tokenReissueService.reissue(token, expiredToken, refreshToken);
 		sendResponse(res, HttpStatus.OK, GENERATE_TOKEN, newTokens);
 	}
 
 	/**
-	 * 리프레시 토큰의 유효성을 검사합니다.
+	 * 토큰 저장소를 사용할 수 없을 때의 처리를 수행합니다.
 	 *
-	 * @param refreshToken 검사할 리프레시 토큰
-	 * @return 토큰이 유효한 경우 true
-	 */
-	private boolean isValidRefreshToken(String refreshToken) {
-		return refreshToken != null && jwtProvider.validateToken(refreshToken);
-	}
-
-	/**
-	 * 새로운 액세스 토큰과 리프레시 토큰을 생성합니다.
+	 * <p>서명이 올바르고 만료되지 않은 액세스 토큰은 저하 모드의 최대 시간 동안 저장소 확인 없이
+	 * 받아들입니다. 만료된 액세스 토큰은 재발급 정책이 QUEUE인 경우에만 토큰의 클레임으로 새 토큰을
+	 * 발급하고, 저장소 교체는 복구 후로 미룹니다. 그 외에는 503을 응답합니다.</p>
 	 *
-	 * @param username     사용자 이름
-	 * @param refreshToken 현재 리프레시 토큰
-	 * @return 새로 생성된 토큰 DTO
+	 * @param verifiedToken 검증된 액세스 토큰
+	 * @param req           HTTP 요청
+	 * @param res           HTTP 응답
+	 * @param filterChain   필터 체인
+	 * @throws IOException      입출력 처리 중 오류 발생 시
+	 * @throws ServletException 서블릿 처리 중 오류 발생 시
 	 */
-	private TokenDto generateNewTokens(String username, String refreshToken) {
-		UserRole role = jwtProvider.getRoleFromToken(refreshToken);
-		String newAccessToken = jwtProvider.createAccessToken(username, role);
-		String newRefreshToken = jwtProvider.createRefreshToken(username, role);
+	private void handleDegraded(VerifiedToken verifiedToken, HttpServletRequest req,
+			HttpServletResponse res, FilterChain filterChain) throws IOException, ServletException {
+		if (!tokenStoreCircuitBreaker.acceptDegraded()) {
+			sendResponse(res, HttpStatus.SERVICE_UNAVAILABLE, TOKEN_STORE_UNAVAILABLE, null);
+			return;
+		}
+
+		if (verifiedToken.isValid()) {
+			log.warn("토큰 저장소 저하 모드: 저장소 확인 없이 액세스 토큰 허용");
+			setAuthentication(verifiedToken);
+			filterChain.doFilter(req, res);
+			return;
+		}
 
-		redisService.saveRefreshToken(username, newRefreshToken);
-		return new TokenDto(newAccessToken);
+		TokenDto newTokens = tokenStoreCircuitBreaker.getRotationPolicy() == RotationPolicy.QUEUE
+				? tokenReissueService.reissueDeferred(verifiedToken)
+				: null;
+		if (newTokens == null) {
+			sendResponse(res, HttpStatus.SERVICE_UNAVAILABLE, TOKEN_STORE_UNAVAILABLE, null);
+			return;
+		}
+		sendResponse(res, HttpStatus.OK, GENERATE_TOKEN, newTokens);
 	}
 
 	/**
 	 * Spring Security 인증 컨텍스트에 사용자 인증 정보를 설정합니다.
 	 *
-	 * @param username 인증할 사용자 이름
+	 * <p>stateless 모드에서는 토큰 클레임으로 인가 주체를 구성하여 DB 조회를 생략합니다. 클레임이 없는
+	 * 이전 토큰이거나 stateless 모드가 아닌 경우 사용자 정보 캐시를 거쳐 조회합니다.</p>
+	 *
+	 * @param verifiedToken 검증된 액세스 토큰
 	 */
-	private void setAuthentication(String username) {
-		UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+	private void setAuthentication(VerifiedToken verifiedToken) {
+		UserDetails userDetails = statelessPrincipal && verifiedToken.hasPrincipalClaims()
+				? UserDetailsImpl.fromToken(verifiedToken)
+				: userDetailsService.loadPrincipal(verifiedToken.getSubject());
 		Authentication authentication = new UsernamePasswordAuthenticationToken(
 				userDetails,
 				null,
@@ -229,7 +266,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	}
 
 	/**
-	 * HTTP 응답을 생성하고 전송합니다.
+	 * HTTP 응답을 생성하고 전송합니다. 오류 응답은 미리 직렬화된 본문을 그대로 씁니다.
 	 *
 	 * @param res     HTTP 응답 객체
 	 * @param status  HTTP 상태 코드
@@ -239,14 +276,14 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	 */
 	private void sendResponse(HttpServletResponse res, HttpStatus status,
 			MessageCode message, Object data) throws IOException {
+		if (data == null) {
+			errorResponses.write(res, status, message);
+			return;
+		}
+
 		res.setStatus(status.value());
 		res.setContentType("application/json");
 		res.setCharacterEncoding("UTF-8");
-
-		ApiResponse<?> response = data != null ?
-				ApiResponse.success(message, data) :
-				ApiResponse.error(message);
-
-		res.getWriter().write(objectMapper.writeValueAsString(response));
+		res.getWriter().write(objectMapper.writeValueAsString(ApiResponse.success(message, data)));
 	}
 }
\ No newline at end of file
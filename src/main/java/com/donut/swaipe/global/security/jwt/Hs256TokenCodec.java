@@ -0,0 +1,390 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.global.common.InstancePool;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * 고정된 클레임 구성(sub, auth, uid, nick, ver, iat, exp)의 HS256 토큰을 직접 발급하고 검증하는 코덱입니다.
+ *
+ * <p>헤더는 미리 인코딩해두고, 초기화된 {@link Mac}을 풀에서 재사용하며, 클레임은 Jackson을 거치지
+ * 않고 바이트 단위로 작성하고 읽습니다. 발급한 토큰은 jjwt로도 검증할 수 있습니다.</p>
+ *
+ * <p>헤더가 {@code {"alg":"HS256"}}가 아니거나 클레임 구조가 예상과 다른 토큰은 {@link #decode}가
+ * null을 반환하며, 호출자는 jjwt 파서로 다시 검증해야 합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class Hs256TokenCodec {
+
+	private static final String HMAC_SHA256 = "HmacSHA256";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+	private static final String HEADER_PREFIX = ENCODER.encodeToString(
+			"{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII)) + ".";
+	private static final byte[] HEADER_PREFIX_BYTES = HEADER_PREFIX.getBytes(
+			StandardCharsets.US_ASCII);
+	private static final int SIGNATURE_LENGTH = 43; // Base64URL(32 bytes)
+
+	private final InstancePool<Mac> macPool;
+
+	Hs256TokenCodec(SecretKey key) {
+		newMac(key); // 키가 올바르지 않으면 생성 시점에 실패하도록 합니다.
+		this.macPool = InstancePool.perCore(() -> newMac(key));
+	}
+
+	/**
+	 * 토큰을 발급합니다.
+	 *
+	 * @param subject    사용자 이름
+	 * @param role       사용자 권한
+	 * @param userId     사용자 ID (없는 경우 null)
+	 * @param nickname   사용자 닉네임 (없는 경우 null)
+	 * @param version    토큰 버전 (0이면 생략)
+	 * @param issuedAt   발급 시각 (epoch millis)
+	 * @param expiration 만료 시각 (epoch millis)
+	 * @return 서명된 토큰
+	 */
+	String encode(String subject, UserRole role, Long userId, String nickname, int version,
+			long issuedAt, long expiration) {
+		StringBuilder json = new StringBuilder(128).append("{\"sub\":");
+		appendString(json, subject);
+		if (role != null) {
+			json.append(",\"auth\":");
+			appendString(json, role.name());
+		}
+		if (userId != null) {
+			json.append(",\"uid\":").append(userId.longValue());
+		}
+		if (nickname != null) {
+			json.append(",\"nick\":");
+			appendString(json, nickname);
+		}
+		if (version > 0) {
+			json.append(",\"ver\":").append(version);
+		}
+		json.append(",\"iat\":").append(issuedAt / 1000)
+				.append(",\"exp\":").append(expiration / 1000)
+				.append('}');
+
+		byte[] payload = ENCODER.encode(json.toString().getBytes(StandardCharsets.UTF_8));
+		int signingLength = HEADER_PREFIX_BYTES.length + payload.length;
+		byte[] token = new byte[signingLength + 1 + SIGNATURE_LENGTH];
+		System.arraycopy(HEADER_PREFIX_BYTES, 0, token, 0, HEADER_PREFIX_BYTES.length);
+		System.arraycopy(payload, 0, token, HEADER_PREFIX_BYTES.length, payload.length);
+		token[signingLength] = '.';
+
+		byte[] signature = sign(token, signingLength);
+		System.arraycopy(signature, 0, token, signingLength + 1, SIGNATURE_LENGTH);
+		return new String(token, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 토큰의 서명을 검증하고 클레임을 읽습니다.
+	 *
+	 * @param token 검증할 토큰
+	 * @param now   기준 시각 (epoch millis)
+	 * @return 검증된 토큰, 이 코덱이 처리할 수 없는 형식이면 null
+	 */
+	VerifiedToken decode(String token, long now) {
+		if (!token.startsWith(HEADER_PREFIX)) {
+			return null;
+		}
+
+		int signingLength = token.indexOf('.', HEADER_PREFIX.length());
+		if (signingLength < 0 || token.length() - signingLength - 1 != SIGNATURE_LENGTH) {
+			return null;
+		}
+
+		byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+		byte[] expected = sign(bytes, signingLength);
+		if (!signatureEquals(expected, bytes, signingLength + 1)) {
+			return VerifiedToken.invalid();
+		}
+
+		try {
+			byte[] payload = DECODER.decode(token.substring(HEADER_PREFIX.length(), signingLength));
+			return new ClaimsReader(new String(payload, StandardCharsets.UTF_8)).read(now);
+		} catch (IllegalArgumentException e) {
+			return VerifiedToken.invalid();
+		}
+	}
+
+	/**
+	 * 토큰 앞부분(header.payload)의 HMAC을 계산해 Base64URL 바이트로 반환합니다.
+	 */
+	private byte[] sign(byte[] token, int signingLength) {
+		Mac hmac = macPool.acquire();
+		try {
+			hmac.update(token, 0, signingLength);
+			return ENCODER.encode(hmac.doFinal());
+		} finally {
+			macPool.release(hmac);
+		}
+	}
+
+	/**
+	 * 토큰에 담긴 서명과 계산한 서명을 상수 시간에 비교합니다.
+	 */
+	private static boolean signatureEquals(byte[] expected, byte[] token, int offset) {
+		int diff = 0;
+		for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+			diff |= expected[i] ^ token[offset + i];
+		}
+		return diff == 0;
+	}
+
+	private static void appendString(StringBuilder json, String value) {
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\n' -> json.append("\\n");
+				case '\r' -> json.append("\\r");
+				case '\t' -> json.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						json.append(String.format("\\u%04x", (int) c));
+					} else {
+						json.append(c);
+					}
+				}
+			}
+		}
+		json.append('"');
+	}
+
+	private static Mac newMac(SecretKey key) {
+		try {
+			Mac hmac = Mac.getInstance(HMAC_SHA256);
+			hmac.init(key);
+			return hmac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HS256 서명 키를 초기화할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 평탄한 JSON 객체에서 필요한 클레임만 읽습니다. 중첩 객체나 배열, 실수처럼 예상하지 못한 값이 있으면
+	 * null을 반환해 jjwt 파서로 처리하게 합니다.
+	 */
+	private static final class ClaimsReader {
+
+		private final String json;
+		private int pos;
+
+		private String subject;
+		private String role;
+		private Long userId;
+		private String nickname;
+		private Long version;
+		private Long issuedAt;
+		private Long expiration;
+
+		ClaimsReader(String json) {
+			this.json = json;
+		}
+
+		VerifiedToken read(long now) {
+			if (!readObject()) {
+				return null;
+			}
+
+			long expirationMillis = expiration != null ? expiration * 1000 : 0L;
+			TokenStatus status = expiration != null && now > expirationMillis
+					? TokenStatus.EXPIRED
+					: TokenStatus.VALID;
+
+			return VerifiedToken.of(
+					status,
+					subject,
+					role != null ? UserRole.valueOf(role) : null,
+					userId,
+					nickname,
+					version != null ? version.intValue() : 0,
+					issuedAt != null ? issuedAt * 1000 : 0L,
+					expirationMillis
+			);
+		}
+
+		private boolean readObject() {
+			skipWhitespace();
+			if (!consume('{')) {
+				return false;
+			}
+			skipWhitespace();
+			if (consume('}')) {
+				return atEnd();
+			}
+
+			do {
+				skipWhitespace();
+				String name = readString();
+				skipWhitespace();
+				if (name == null || !consume(':')) {
+					return false;
+				}
+				skipWhitespace();
+				if (!readValue(name)) {
+					return false;
+				}
+				skipWhitespace();
+			} while (consume(','));
+
+			return consume('}') && atEnd();
+		}
+
+		private boolean readValue(String name) {
+			if (pos >= json.length()) {
+				return false;
+			}
+			char c = json.charAt(pos);
+			if (c == '"') {
+				String value = readString();
+				if (value == null) {
+					return false;
+				}
+				switch (name) {
+					case "sub" -> subject = value;
+					case "auth" -> role = value;
+					case "nick" -> nickname = value;
+					case "uid", "ver", "iat", "exp" -> {
+						return false;
+					}
+					default -> {
+					}
+				}
+				return true;
+			}
+			if (c == '-' || (c >= '0' && c <= '9')) {
+				Long value = readLong();
+				if (value == null) {
+					return false;
+				}
+				switch (name) {
+					case "uid" -> userId = value;
+					case "ver" -> version = value;
+					case "iat" -> issuedAt = value;
+					case "exp" -> expiration = value;
+					case "sub", "auth", "nick" -> {
+						return false;
+					}
+					default -> {
+					}
+				}
+				return true;
+			}
+			return readLiteral("true") || readLiteral("false") || readLiteral("null");
+		}
+
+		private String readString() {
+			if (!consume('"')) {
+				return null;
+			}
+			int start = pos;
+			StringBuilder escaped = null;
+			while (pos < json.length()) {
+				char c = json.charAt(pos++);
+				if (c == '"') {
+					return escaped == null
+							? json.substring(start, pos - 1)
+							: escaped.toString();
+				}
+				if (c == '\\') {
+					if (escaped == null) {
+						escaped = new StringBuilder(json.substring(start, pos - 1));
+					}
+					if (!readEscape(escaped)) {
+						return null;
+					}
+				} else if (escaped != null) {
+					escaped.append(c);
+				}
+			}
+			return null;
+		}
+
+		private boolean readEscape(StringBuilder out) {
+			if (pos >= json.length()) {
+				return false;
+			}
+			char c = json.charAt(pos++);
+			switch (c) {
+				case '"', '\\', '/' -> out.append(c);
+				case 'b' -> out.append('\b');
+				case 'f' -> out.append('\f');
+				case 'n' -> out.append('\n');
+				case 'r' -> out.append('\r');
+				case 't' -> out.append('\t');
+				case 'u' -> {
+					if (pos + 4 > json.length()) {
+						return false;
+					}
+					try {
+						out.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+					} catch (NumberFormatException e) {
+						return false;
+					}
+					pos += 4;
+				}
+				default -> {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private Long readLong() {
+			int start = pos;
+			if (json.charAt(pos) == '-') {
+				pos++;
+			}
+			while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+				pos++;
+			}
+			if (pos < json.length() && ".eE".indexOf(json.charAt(pos)) >= 0) {
+				return null;
+			}
+			try {
+				return Long.parseLong(json, start, pos, 10);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		private boolean readLiteral(String literal) {
+			if (json.startsWith(literal, pos)) {
+				pos += literal.length();
+				return true;
+			}
+			return false;
+		}
+
+		private boolean consume(char expected) {
+			if (pos < json.length() && json.charAt(pos) == expected) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private boolean atEnd() {
+			skipWhitespace();
+			return pos == json.length();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.donut.swaipe.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+
+/**
+ * 토큰 서명 키와 검증 키 목록을 관리하는 키링입니다.
+ *
+ * <p>서명에는 활성 키 하나만 사용하고, 검증에는 JWS 헤더의 {@code kid}로 등록된 모든 공개키를
+ * 사용합니다. 키 교체 시 새 키를 활성화한 뒤에도 이전 공개키를 남겨두면 기존 토큰이 만료될 때까지
+ * 계속 검증됩니다. {@code kid}가 없는 토큰은 HMAC 키로 검증합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+	private static final String EC_CURVE = "secp256r1";
+	private static final int ES256_COORDINATE_LENGTH = 32;
+
+	@Getter
+	private final SignatureAlgorithm signatureAlgorithm;
+	@Getter
+	private final String signingKeyId;
+	@Getter
+	private final Key signingKey;
+	@Getter
+	private final SecretKey hmacKey;
+	private final Map<String, PublicKey> verificationKeys;
+
+	public JwtKeyRing(SignatureAlgorithm signatureAlgorithm, String signingKeyId, Key signingKey,
+			SecretKey hmacKey, Map<String, PublicKey> verificationKeys) {
+		this.signatureAlgorithm = signatureAlgorithm;
+		this.signingKeyId = signingKeyId;
+		this.signingKey = signingKey;
+		this.hmacKey = hmacKey;
+		this.verificationKeys = Collections.unmodifiableMap(new LinkedHashMap<>(verificationKeys));
+	}
+
+	/**
+	 * HMAC-SHA256 키 하나만 사용하는 키링을 생성합니다.
+	 *
+	 * @param base64Secret Base64로 인코딩된 시크릿 키
+	 */
+	public static JwtKeyRing hmac(String base64Secret) {
+		SecretKey key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret));
+		return new JwtKeyRing(SignatureAlgorithm.HS256, null, key, key, Map.of());
+	}
+
+	/**
+	 * ES256 키 쌍 하나로 서명하고 검증하는 키링을 생성합니다.
+	 *
+	 * @param kid     키 ID
+	 * @param keyPair P-256 키 쌍
+	 * @param hmacKey kid가 없는 이전 토큰을 검증할 HMAC 키 (허용하지 않는 경우 null)
+	 */
+	public static JwtKeyRing ec(String kid, KeyPair keyPair, SecretKey hmacKey) {
+		return new JwtKeyRing(SignatureAlgorithm.ES256, kid, keyPair.getPrivate(), hmacKey,
+				Map.of(kid, keyPair.getPublic()));
+	}
+
+	/**
+	 * 새 P-256 키 쌍을 생성합니다.
+	 */
+	public static KeyPair generateEcKeyPair() {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(new ECGenParameterSpec(EC_CURVE));
+			return generator.generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("EC 키 쌍을 생성할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * JWS 헤더의 kid에 해당하는 검증 키를 반환합니다.
+	 *
+	 * @throws SignatureException 등록되지 않은 kid이거나 kid 없는 토큰을 허용하지 않는 경우
+	 */
+	@Override
+	public Key resolveSigningKey(JwsHeader header, Claims claims) {
+		String kid = header.getKeyId();
+		if (kid == null) {
+			if (hmacKey == null) {
+				throw new SignatureException("kid가 없는 토큰은 허용되지 않습니다.");
+			}
+			return hmacKey;
+		}
+
+		PublicKey key = verificationKeys.get(kid);
+		if (key == null) {
+			throw new SignatureException("등록되지 않은 kid입니다: " + kid);
+		}
+		return key;
+	}
+
+	/**
+	 * 검증용 공개키를 JWK Set 형식으로 반환합니다.
+	 *
+	 * @return {@code {"keys": [...]}} 형식의 JWK Set
+	 */
+	public Map<String, Object> toJwkSet() {
+		List<Map<String, Object>> keys = new ArrayList<>();
+		verificationKeys.forEach((kid, key) -> {
+			if (key instanceof ECPublicKey ecKey) {
+				keys.add(toJwk(kid, ecKey));
+			}
+		});
+		return Map.of("keys", keys);
+	}
+
+	private Map<String, Object> toJwk(String kid, ECPublicKey key) {
+		Map<String, Object> jwk = new LinkedHashMap<>();
+		jwk.put("kty", "EC");
+		jwk.put("crv", "P-256");
+		jwk.put("kid", kid);
+		jwk.put("use", "sig");
+		jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+		jwk.put("x", encodeCoordinate(key.getW().getAffineX()));
+		jwk.put("y", encodeCoordinate(key.getW().getAffineY()));
+		return jwk;
+	}
+
+	/**
+	 * 타원곡선 좌표를 고정 길이 부호 없는 빅엔디언 바이트로 변환해 Base64URL로 인코딩합니다.
+	 */
+	private static String encodeCoordinate(BigInteger coordinate) {
+		byte[] bytes = coordinate.toByteArray();
+		byte[] fixed = new byte[ES256_COORDINATE_LENGTH];
+		int length = Math.min(bytes.length, ES256_COORDINATE_LENGTH);
+		System.arraycopy(bytes, bytes.length - length, fixed, ES256_COORDINATE_LENGTH - length,
+				length);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+	}
+
+	@Override
+	public String toString() {
+		return "JwtKeyRing{algorithm=" + signatureAlgorithm + ", signingKeyId=" + signingKeyId
+				+ ", verificationKeyIds=" + verificationKeys.keySet() + "}";
+	}
+}
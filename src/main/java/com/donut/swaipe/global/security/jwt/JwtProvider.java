@@ -1,28 +1,30 @@
 package com.donut.swaipe.global.security.jwt;
 
 import com.donut.swaipe.domain.user.enums.UserRole;
+import com.donut.swaipe.global.exception.auth.InvalidTokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
-import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 /**
- * JWT 토큰 생성 및 검증을 담당하는 클래스
+ * JWT 토큰 생성 및 검증을 담당하는 클래스. 서명 키는 {@link JwtKeyRing}에서 가져옵니다.
  *
  * @author donut
- * @version 1.0
+ * @version 1.1
  * @since 2024-01-19
  */
 @Slf4j
@@ -31,21 +33,29 @@ import org.springframework.stereotype.Component;
 public class JwtProvider {
 
 	private static final String AUTHORIZATION_KEY = "auth";
-	private static final Long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
+	private static final String USER_ID_KEY = "uid";
+	private static final String NICKNAME_KEY = "nick";
+	private static final String VERSION_KEY = "ver";
+	public static final Long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
 	public static final Long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 2주
 
-	private final RedisTemplate<String, String> redisTemplate;
+	private final JwtKeyRing keyRing;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenVersionRegistry tokenVersionRegistry;
 
-	@Value("${jwt-secret-key}")
-	private String secretKey;
-	private Key key;
+	private JwtParser parser;
+	private Hs256TokenCodec hs256Codec;
 
 	/**
-	 * 시크릿 키를 Base64로 디코딩하여 HMAC-SHA 키를 생성합니다.
+	 * 키링의 kid 별 검증 키를 사용하는 파서를 준비합니다. 파서는 요청마다 재사용됩니다.
+	 *
+	 * <p>HMAC 키가 있으면 HS256 토큰은 전용 코덱으로 발급하고 검증하며, 코덱이 처리할 수 없는 토큰만
+	 * jjwt 파서로 검증합니다.</p>
 	 */
 	@PostConstruct
 	public void init() {
-		key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+		parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+		hs256Codec = keyRing.getHmacKey() != null ? new Hs256TokenCodec(keyRing.getHmacKey()) : null;
 	}
 
 	/**
@@ -56,15 +66,38 @@ public class JwtProvider {
 	 * @return 생성된 액세스 토큰
 	 */
 	public String createAccessToken(String username, UserRole role) {
-		Date date = new Date();
+		return createAccessToken(username, role, null, null);
+	}
 
-		return Jwts.builder()
-				.setSubject(username)
-				.claim(AUTHORIZATION_KEY, role)
-				.setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME))
-				.setIssuedAt(date)
-				.signWith(key, SignatureAlgorithm.HS256)
-				.compact();
+	/**
+	 * 인가 주체 정보(사용자 ID, 닉네임)를 포함한 액세스 토큰을 생성합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @param role     사용자 권한
+	 * @param userId   사용자 ID (없는 경우 null)
+	 * @param nickname 사용자 닉네임 (없는 경우 null)
+	 * @return 생성된 액세스 토큰
+	 */
+	public String createAccessToken(String username, UserRole role, Long userId,
+			String nickname) {
+		return createAccessToken(username, role, userId, nickname,
+				tokenVersionRegistry.mintVersion(username));
+	}
+
+	/**
+	 * 지정한 토큰 버전으로 액세스 토큰을 생성합니다. 토큰 쌍을 발급할 때 버전을 한 번만 조회하도록
+	 * 호출자가 조회한 버전을 사용합니다.
+	 *
+	 * @param username 사용자 아이디
+	 * @param role     사용자 권한
+	 * @param userId   사용자 ID (없는 경우 null)
+	 * @param nickname 사용자 닉네임 (없는 경우 null)
+	 * @param version  토큰 버전
+	 * @return 생성된 액세스 토큰
+	 */
+	public String createAccessToken(String username, UserRole role, Long userId,
+			String nickname, int version) {
+		return createToken(username, role, userId, nickname, version, ACCESS_TOKEN_TIME);
 	}
 
 	/**
@@ -74,78 +107,167 @@ public class JwtProvider {
 	 * @param role     사용자 역할
 	 */
 	public String createRefreshToken(String username, UserRole role) {
+		return createRefreshToken(username, role, null, null);
+	}
+
+	/**
+	 * 인가 주체 정보를 포함한 Refresh Token을 생성합니다. 재발급 시 새 액세스 토큰에 같은 정보를 담기 위해
+	 * 사용됩니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param role     사용자 역할
+	 * @param userId   사용자 ID (없는 경우 null)
+	 * @param nickname 사용자 닉네임 (없는 경우 null)
+	 */
+	public String createRefreshToken(String username, UserRole role, Long userId,
+			String nickname) {
+		return createRefreshToken(username, role, userId, nickname,
+				tokenVersionRegistry.mintVersion(username));
+	}
+
+	/**
+	 * 지정한 토큰 버전으로 Refresh Token을 생성합니다. 토큰 쌍을 발급할 때 버전을 한 번만 조회하도록
+	 * 호출자가 조회한 버전을 사용합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param role     사용자 역할
+	 * @param userId   사용자 ID (없는 경우 null)
+	 * @param nickname 사용자 닉네임 (없는 경우 null)
+	 * @param version  토큰 버전
+	 */
+	public String createRefreshToken(String username, UserRole role, Long userId,
+			String nickname, int version) {
+		return createToken(username, role, userId, nickname, version, REFRESH_TOKEN_TIME);
+	}
+
+	/**
+	 * 공통 클레임으로 서명된 토큰을 생성합니다. 사용자의 토큰 버전이 함께 담깁니다.
+	 */
+	private String createToken(String username, UserRole role, Long userId, String nickname,
+			int version, long validity) {
+		if (hs256Codec != null && keyRing.getSignatureAlgorithm() == SignatureAlgorithm.HS256) {
+			long now = System.currentTimeMillis();
+			return hs256Codec.encode(username, role, userId, nickname, version, now,
+					now + validity);
+		}
+
 		Date date = new Date();
 
-		return Jwts.builder()
-				.setSubject(username)
-				.claim(AUTHORIZATION_KEY, role)
-				.setExpiration(new Date(date.getTime() + REFRESH_TOKEN_TIME))
+		JwtBuilder builder = Jwts.builder();
+		if (keyRing.getSigningKeyId() != null) {
+			builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId());
+		}
+
+		builder.setSubject(username)
+				.claim(AUTHORIZATION_KEY, role);
+		if (userId != null) {
+			builder.claim(USER_ID_KEY, userId);
+		}
+		if (nickname != null) {
+			builder.claim(NICKNAME_KEY, nickname);
+		}
+		if (version > 0) {
+			builder.claim(VERSION_KEY, version);
+		}
+
+		return builder
+				.setExpiration(new Date(date.getTime() + validity))
 				.setIssuedAt(date)
-				.signWith(key, SignatureAlgorithm.HS256)
+				.signWith(keyRing.getSigningKey(), keyRing.getSignatureAlgorithm())
 				.compact();
 	}
 
 	/**
-	 * 토큰에서 사용자 이름을 추출합니다.
+	 * 토큰을 한 번만 파싱하고 서명을 검증하여 클레임을 반환합니다.
+	 *
+	 * <p>만료된 토큰은 서명 검증 후 {@link TokenStatus#EXPIRED} 상태로 클레임을 반환하며,
+	 * 서명이나 형식이 잘못된 토큰은 {@link TokenStatus#INVALID} 상태를 반환합니다.
+	 * 유효한 토큰의 검증 결과는 만료 시각까지 {@link VerifiedTokenCache}에 보관됩니다.</p>
 	 *
 	 * @param token JWT 토큰
+	 * @return 검증된 토큰 클레임
 	 */
-	public String getUsernameFromToken(String token) {
-		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(key)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
-			return claims.getSubject();
-		} catch (ExpiredJwtException e) {
-			// 토큰이 만료된 경우에도 사용자 정보 반환
-			return e.getClaims().getSubject();
+	public VerifiedToken verify(String token) {
+		if (!StringUtils.hasText(token)) {
+			return VerifiedToken.invalid();
 		}
+		return verifiedTokenCache.get(token, this::parse);
 	}
 
 	/**
-	 * 토큰에서 사용자 역할을 추출합니다.
+	 * {@link VerifiedTokenCache}를 거치지 않고 토큰을 검증합니다. 요청마다 다시 검증되지 않는 토큰(이전
+	 * 형식으로 저장된 리프레시 토큰 등)이 액세스 토큰용 캐시를 차지하지 않도록 할 때 사용합니다.
 	 *
 	 * @param token JWT 토큰
+	 * @return 검증된 토큰 클레임
 	 */
-	public UserRole getRoleFromToken(String token) {
-		Claims claims = Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
-		return UserRole.valueOf(claims.get(AUTHORIZATION_KEY, String.class));
+	public VerifiedToken verifyUncached(String token) {
+		if (!StringUtils.hasText(token)) {
+			return VerifiedToken.invalid();
+		}
+		return parse(token);
 	}
 
 	/**
-	 * JWT 토큰의 유효성을 검증합니다.
+	 * 토큰을 파싱하고 서명을 검증합니다.
 	 *
-	 * @param token 검증할 JWT 토큰
+	 * @param token JWT 토큰
 	 */
-	public boolean validateToken(String token) {
+	private VerifiedToken parse(String token) {
+		if (hs256Codec != null) {
+			VerifiedToken decoded = hs256Codec.decode(token, System.currentTimeMillis());
+			if (decoded != null) {
+				return decoded;
+			}
+		}
+
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			return toVerifiedToken(TokenStatus.VALID, claims);
+		} catch (ExpiredJwtException e) {
+			log.debug("만료된 JWT 토큰입니다.");
+			return toVerifiedToken(TokenStatus.EXPIRED, e.getClaims());
 		} catch (SecurityException | MalformedJwtException e) {
 			log.error("유효하지 않는 JWT 서명입니다.");
-		} catch (ExpiredJwtException e) {
-			log.error("만료된 JWT 토큰입니다.");
 		} catch (UnsupportedJwtException e) {
 			log.error("지원되지 않는 JWT 토큰입니다.");
-		} catch (IllegalArgumentException e) {
+		} catch (JwtException | IllegalArgumentException e) {
 			log.error("잘못된 JWT 토큰입니다.");
 		}
-		return false;
+		return VerifiedToken.invalid();
 	}
 
 	/**
-	 * 특정 사용자의 Refresh Token이 Redis에 존재하는지 확인합니다.
+	 * 토큰에서 사용자 이름을 추출합니다. 만료된 토큰에서도 사용자 이름을 반환합니다.
 	 *
-	 * @param username 사용자 이름
+	 * @param token JWT 토큰
+	 * @return 사용자 이름, 유효하지 않은 토큰인 경우 null
 	 */
-	public boolean hasRefreshToken(String username) {
-		return Boolean.TRUE.equals(redisTemplate.hasKey(username));
+	public String getUsernameFromToken(String token) {
+		return verify(token).getSubject();
+	}
+
+	/**
+	 * 토큰에서 사용자 역할을 추출합니다.
+	 *
+	 * @param token JWT 토큰
+	 * @throws InvalidTokenException 토큰이 만료되었거나 유효하지 않은 경우
+	 */
+	public UserRole getRoleFromToken(String token) {
+		VerifiedToken verifiedToken = verify(token);
+		if (!verifiedToken.isValid()) {
+			throw InvalidTokenException.INSTANCE;
+		}
+		return verifiedToken.getRole();
+	}
+
+	/**
+	 * JWT 토큰의 유효성을 검증합니다.
+	 *
+	 * @param token 검증할 JWT 토큰
+	 */
+	public boolean validateToken(String token) {
+		return verify(token).isValid();
 	}
 
 	/**
@@ -154,22 +276,30 @@ public class JwtProvider {
 	 * @param token JWT 토큰
 	 */
 	public Long getExpirationFromToken(String token) {
-		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(key)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+		return verify(token).getRemainingMillis(System.currentTimeMillis());
+	}
 
-			Date expiration = claims.getExpiration();
-			Date now = new Date();
+	/**
+	 * 파싱된 클레임을 검증된 토큰 객체로 변환합니다.
+	 *
+	 * @param status 검증 상태
+	 * @param claims 토큰 클레임
+	 */
+	private VerifiedToken toVerifiedToken(TokenStatus status, Claims claims) {
+		String role = claims.get(AUTHORIZATION_KEY, String.class);
+		Integer version = claims.get(VERSION_KEY, Integer.class);
+		Date issuedAt = claims.getIssuedAt();
+		Date expiration = claims.getExpiration();
 
-			return expiration.getTime() - now.getTime();
-		} catch (ExpiredJwtException e) {
-			return 0L;
-		} catch (Exception e) {
-			log.error("토큰 만료 시간 추출 중 에러 발생: {}", e.getMessage());
-			return 0L;
-		}
+		return VerifiedToken.of(
+				status,
+				claims.getSubject(),
+				role != null ? UserRole.valueOf(role) : null,
+				claims.get(USER_ID_KEY, Long.class),
+				claims.get(NICKNAME_KEY, String.class),
+				version != null ? version : 0,
+				issuedAt != null ? issuedAt.getTime() : 0L,
+				expiration != null ? expiration.getTime() : 0L
+		);
 	}
 }
\ No newline at end of file
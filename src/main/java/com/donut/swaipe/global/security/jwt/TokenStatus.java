@@ -0,0 +1,14 @@
+package com.donut.swaipe.global.security.jwt;
+
+/**
+ * JWT 토큰 검증 결과 상태입니다.
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum TokenStatus {
+	VALID,
+	EXPIRED,
+	INVALID
+}
@@ -0,0 +1,366 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.domain.user.service.TokenStoreCircuitBreaker;
+import com.donut.swaipe.global.exception.auth.TokenStoreUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 최소 유효 토큰 버전을 노드 메모리에 보관하는 레지스트리입니다.
+ *
+ * <p>토큰에는 발급 시점의 사용자 토큰 버전({@code ver})이 담기고, 로그아웃이나 비밀번호 변경처럼 세션을
+ * 끊어야 할 때 버전이 올라갑니다. 버전은 Redis 해시({@value #VERSION_KEY})에 저장되며 변경 사항은
+ * {@value #CHANNEL} 채널로 모든 노드에 전파됩니다. 노드는 구독을 먼저 연 뒤 스냅샷을 읽어 두므로, 요청마다
+ * Redis를 거치지 않고 폐기된 토큰을 거절할 수 있습니다. 새 토큰의 버전은 메모리가 아닌 Redis 해시에서
+ * 읽습니다.</p>
+ *
+ * <p>메모리에는 최근 {@link #RETENTION_MILLIS} 안에 버전이 오른 사용자만 둡니다. 그보다 먼저 발급된 액세스
+ * 토큰은 이미 만료되었으므로 버전을 비교할 필요가 없습니다. 버전을 올린 시각은 {@value #RECENT_KEY}
+ * 정렬 집합에 기록되며 스냅샷은 이 집합에 남은 사용자만 읽습니다.</p>
+ *
+ * <p>각 노드는 주기적으로 채널에 하트비트를 보냅니다. 구독이 다시 열리거나, 하트비트가 한동안 오지 않았거나,
+ * 스냅샷을 읽지 못했으면 동기화되지 않은 것으로 보고 다음 주기에 스냅샷을 다시 읽습니다. 놓친 메시지에
+ * 대비해 스냅샷은 일정 간격으로도 다시 읽습니다.</p>
+ *
+ * <p>전체 세션 폐기는 사용자별 버전 대신 폐기 시각({@value #REVOKED_BEFORE_KEY})으로 표현하며, 그보다
+ * 먼저 발급된 토큰은 모두 거절됩니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class TokenVersionRegistry implements MessageListener, SubscriptionListener, MeterBinder,
+		DisposableBean {
+
+	public static final String VERSION_KEY = "TV";
+	public static final String RECENT_KEY = "TV:at";
+	public static final String REVOKED_BEFORE_KEY = "TV:all";
+	public static final String CHANNEL = "token-version";
+	/**
+	 * 버전 변경을 메모리에 보관하는 시간입니다. 액세스 토큰 유효 시간에, 저장소 저하 모드에서 만료된 액세스
+	 * 토큰을 받아 주는 최대 시간(액세스 토큰 유효 시간)을 더한 값입니다.
+	 */
+	public static final long RETENTION_MILLIS = 2 * JwtProvider.ACCESS_TOKEN_TIME;
+	private static final String REVOKE_ALL_MARKER = "*";
+	private static final String HEARTBEAT = "~";
+	private static final int SNAPSHOT_BATCH_SIZE = 1000;
+	private static final int STALE_HEARTBEATS = 3;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final TokenStoreCircuitBreaker tokenStoreCircuitBreaker;
+	private final long heartbeatMillis;
+	private final long staleAfterMillis;
+	private final long resyncMillis;
+	private final Cache<String, Integer> versions;
+	private final ScheduledExecutorService syncExecutor;
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder resyncs = new LongAdder();
+	private volatile long revokedBeforeSeconds;
+	private volatile boolean synced;
+	private volatile boolean resyncRequested;
+	private volatile long lastMessageAt;
+	private volatile long snapshotAt;
+
+	public TokenVersionRegistry(RedisTemplate<String, String> redisTemplate,
+			RedisMessageListenerContainer listenerContainer,
+			TokenStoreCircuitBreaker tokenStoreCircuitBreaker,
+			@Value("${token-version.heartbeat-interval:5s}") Duration heartbeatInterval,
+			@Value("${token-version.resync-interval:5m}") Duration resyncInterval) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.tokenStoreCircuitBreaker = tokenStoreCircuitBreaker;
+		this.heartbeatMillis = heartbeatInterval.toMillis();
+		this.staleAfterMillis = heartbeatMillis * STALE_HEARTBEATS;
+		this.resyncMillis = resyncInterval.toMillis();
+		this.versions = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMillis(RETENTION_MILLIS))
+				.build();
+		this.syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "token-version-sync");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 변경 채널 구독을 등록합니다. 구독은 리스너 컨테이너가 시작될 때 열립니다.
+	 */
+	@PostConstruct
+	public void init() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 구독이 열린 뒤 하트비트와 스냅샷 갱신을 시작합니다. 첫 주기에 스냅샷을 읽으며, 실패하면 다음 주기에 다시
+	 * 시도합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		syncExecutor.scheduleWithFixedDelay(this::maintain, 0, heartbeatMillis,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 하트비트를 보내고, 동기화가 깨졌거나 스냅샷이 오래되었으면 다시 읽습니다.
+	 */
+	private void maintain() {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, HEARTBEAT);
+		} catch (Exception e) {
+			log.debug("토큰 버전 하트비트 전송 실패: {}", e.getMessage());
+		}
+
+		if (!synced || resyncRequested
+				|| System.currentTimeMillis() - snapshotAt >= resyncMillis) {
+			loadSnapshot();
+		}
+	}
+
+	/**
+	 * Redis에 저장된 최근 버전 변경과 전체 폐기 시각을 읽어옵니다. 구독을 먼저 열어 두므로 읽는 동안 발생한
+	 * 변경도 놓치지 않습니다.
+	 */
+	private void loadSnapshot() {
+		resyncRequested = false;
+		long startedAt = System.currentTimeMillis();
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(RECENT_KEY))) {
+				loadRecentVersions(startedAt - RETENTION_MILLIS);
+			} else {
+				loadAllVersions();
+			}
+			String revokedBefore = redisTemplate.opsForValue().get(REVOKED_BEFORE_KEY);
+			if (revokedBefore != null) {
+				applyRevokeAll(Long.parseLong(revokedBefore));
+			}
+			snapshotAt = startedAt;
+			synced = !resyncRequested;
+			resyncs.increment();
+			log.debug("토큰 버전 스냅샷 로드 완료: entries={}", versions.estimatedSize());
+		} catch (Exception e) {
+			synced = false;
+			log.warn("토큰 버전 스냅샷을 읽을 수 없어 리프레시 토큰 확인을 유지합니다: {}", e.getMessage());
+		}
+	}
+
+	private void loadRecentVersions(long since) {
+		Set<String> recent = redisTemplate.opsForZSet()
+				.rangeByScore(RECENT_KEY, since, Double.POSITIVE_INFINITY);
+		if (recent == null || recent.isEmpty()) {
+			return;
+		}
+
+		List<Object> usernames = new ArrayList<>(recent);
+		for (int from = 0; from < usernames.size(); from += SNAPSHOT_BATCH_SIZE) {
+			List<Object> batch = usernames.subList(from,
+					Math.min(from + SNAPSHOT_BATCH_SIZE, usernames.size()));
+			List<Object> values = redisTemplate.opsForHash().multiGet(VERSION_KEY, batch);
+			for (int i = 0; i < batch.size(); i++) {
+				if (values.get(i) != null) {
+					apply((String) batch.get(i), Integer.parseInt((String) values.get(i)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 버전 변경 시각이 기록되기 전의 저장소를 위해 해시 전체를 읽습니다. 다음 세션 폐기부터는 최근 변경만
+	 * 읽습니다.
+	 */
+	private void loadAllVersions() {
+		ScanOptions options = ScanOptions.scanOptions().count(SNAPSHOT_BATCH_SIZE).build();
+		try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash()
+				.scan(VERSION_KEY, options)) {
+			while (cursor.hasNext()) {
+				Map.Entry<Object, Object> entry = cursor.next();
+				apply((String) entry.getKey(), Integer.parseInt((String) entry.getValue()));
+			}
+		}
+	}
+
+	/**
+	 * 사용자의 현재 토큰 버전을 반환합니다. 메모리에 남아 있는 최근 변경만 반영합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @return 현재 토큰 버전, 최근 변경이 없으면 0
+	 */
+	public int currentVersion(String username) {
+		Integer version = versions.getIfPresent(username);
+		return version == null ? 0 : version;
+	}
+
+	/**
+	 * 새로 발급하는 토큰에 담을 버전을 Redis 해시에서 읽습니다. 저장소를 사용할 수 없으면 메모리의 버전을
+	 * 사용합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @return 발급할 토큰 버전
+	 */
+	public int mintVersion(String username) {
+		try {
+			Object stored = tokenStoreCircuitBreaker.execute(() ->
+					redisTemplate.opsForHash().get(VERSION_KEY, username));
+			return mintVersion(username, stored == null ? 0 : Integer.parseInt((String) stored));
+		} catch (TokenStoreUnavailableException e) {
+			log.debug("토큰 버전을 읽을 수 없어 메모리의 버전으로 발급합니다: username={}", username);
+			return currentVersion(username);
+		}
+	}
+
+	/**
+	 * Redis에서 읽은 버전과 메모리의 버전 중 큰 값을 발급할 버전으로 정합니다. 논블로킹 클라이언트로 버전을
+	 * 읽는 호출자가 사용합니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param stored   Redis 해시의 버전, 없으면 0
+	 * @return 발급할 토큰 버전
+	 */
+	public int mintVersion(String username, int stored) {
+		return Math.max(stored, currentVersion(username));
+	}
+
+	/**
+	 * 토큰이 폐기되었는지 확인합니다. 네트워크 호출 없이 메모리에서만 판단합니다.
+	 *
+	 * @param token 서명 검증을 통과한 토큰
+	 * @return 토큰 버전이 사용자의 현재 버전보다 낮거나 전체 폐기 이전에 발급된 경우 true
+	 */
+	public boolean isRevoked(VerifiedToken token) {
+		boolean revoked = token.getVersion() < currentVersion(token.getSubject())
+				|| token.getIssuedAt() / 1000 < revokedBeforeSeconds;
+		if (revoked) {
+			rejected.increment();
+		}
+		return revoked;
+	}
+
+	/**
+	 * 스냅샷을 읽었고 구독으로 하트비트를 계속 받고 있어 메모리 상태를 믿을 수 있는지 확인합니다.
+	 *
+	 * @return 동기화 여부
+	 */
+	public boolean isSynced() {
+		return synced && listenerContainer.isRunning()
+				&& System.currentTimeMillis() - lastMessageAt < staleAfterMillis;
+	}
+
+	/**
+	 * 사용자의 토큰 버전을 반영합니다. 더 낮거나 같은 버전으로는 덮어쓰지 않으므로 보관 시간도 늘어나지
+	 * 않습니다.
+	 *
+	 * @param username 사용자 이름
+	 * @param version  새 토큰 버전
+	 */
+	public void apply(String username, int version) {
+		if (version <= currentVersion(username)) {
+			return;
+		}
+		versions.asMap().merge(username, version, Math::max);
+	}
+
+	/**
+	 * 전체 폐기 시각을 반영합니다.
+	 *
+	 * @param seconds 이 시각(epoch seconds)보다 먼저 발급된 토큰을 폐기
+	 */
+	public void applyRevokeAll(long seconds) {
+		if (seconds > revokedBeforeSeconds) {
+			revokedBeforeSeconds = seconds;
+		}
+	}
+
+	/**
+	 * 구독이 (다시) 열리면 그동안 놓친 변경이 있을 수 있으므로 스냅샷을 다시 읽도록 합니다.
+	 */
+	@Override
+	public void onChannelSubscribed(byte[] channel, long count) {
+		requestResync();
+		lastMessageAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * {@code <버전>:<사용자 이름>} 또는 {@code *:<폐기 시각>} 형식의 변경 메시지를 반영합니다. 하트비트는
+	 * 수신 시각만 기록합니다. 메시지가 한동안 끊겼다가 다시 오면 스냅샷을 다시 읽도록 합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		long now = System.currentTimeMillis();
+		if (now - lastMessageAt >= staleAfterMillis) {
+			requestResync();
+		}
+		lastMessageAt = now;
+
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator <= 0) {
+			return;
+		}
+
+		try {
+			String head = body.substring(0, separator);
+			String tail = body.substring(separator + 1);
+			if (REVOKE_ALL_MARKER.equals(head)) {
+				applyRevokeAll(Long.parseLong(tail));
+			} else {
+				apply(tail, Integer.parseInt(head));
+			}
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 토큰 버전 메시지: {}", body);
+		}
+	}
+
+	private void requestResync() {
+		synced = false;
+		resyncRequested = true;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("token_version.entries", versions, Cache::estimatedSize)
+				.register(registry);
+		Gauge.builder("token_version.synced", this, tokenVersionRegistry ->
+						tokenVersionRegistry.isSynced() ? 1 : 0)
+				.register(registry);
+		FunctionCounter.builder("token_version.rejected", rejected, LongAdder::sum)
+				.register(registry);
+		FunctionCounter.builder("token_version.snapshots", resyncs, LongAdder::sum)
+				.register(registry);
+	}
+
+	@Override
+	public void destroy() {
+		syncExecutor.shutdownNow();
+	}
+}
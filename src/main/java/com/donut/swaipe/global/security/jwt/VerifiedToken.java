@@ -0,0 +1,92 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.domain.user.enums.UserRole;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 번의 파싱과 서명 검증으로 얻은 JWT 클레임을 담는 불변 객체입니다.
+ *
+ * <p>만료된 토큰도 서명이 올바르면 클레임을 그대로 담고 {@link TokenStatus#EXPIRED} 상태를 가집니다.
+ * 서명이나 형식이 올바르지 않은 토큰은 클레임 없이 {@link TokenStatus#INVALID} 상태를 가집니다.</p>
+ *
+ * @author donut
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedToken {
+
+	private static final VerifiedToken INVALID = new VerifiedToken(
+			TokenStatus.INVALID, null, null, null, null, 0, 0L, 0L);
+
+	private final TokenStatus status;
+	private final String subject;
+	private final UserRole role;
+	private final Long userId;
+	private final String nickname;
+	private final int version;
+	private final long issuedAt;
+	private final long expiration;
+
+	/**
+	 * 서명 검증을 통과한 토큰의 클레임으로 객체를 생성합니다.
+	 *
+	 * @param status     VALID 또는 EXPIRED
+	 * @param subject    사용자 이름
+	 * @param role       사용자 권한 (클레임이 없는 경우 null)
+	 * @param userId     사용자 ID (클레임이 없는 경우 null)
+	 * @param nickname   사용자 닉네임 (클레임이 없는 경우 null)
+	 * @param version    토큰 버전 (클레임이 없는 경우 0)
+	 * @param issuedAt   발급 시각 (epoch millis)
+	 * @param expiration 만료 시각 (epoch millis)
+	 */
+	static VerifiedToken of(TokenStatus status, String subject, UserRole role, Long userId,
+			String nickname, int version, long issuedAt, long expiration) {
+		return new VerifiedToken(status, subject, role, userId, nickname, version, issuedAt,
+				expiration);
+	}
+
+	/**
+	 * 유효하지 않은 토큰을 나타내는 객체를 반환합니다.
+	 */
+	static VerifiedToken invalid() {
+		return INVALID;
+	}
+
+	public boolean isValid() {
+		return status == TokenStatus.VALID;
+	}
+
+	public boolean isExpired() {
+		return status == TokenStatus.EXPIRED;
+	}
+
+	public boolean isInvalid() {
+		return status == TokenStatus.INVALID;
+	}
+
+	/**
+	 * 토큰만으로 인가 주체를 구성할 수 있는지 확인합니다.
+	 *
+	 * @return 사용자 ID와 권한 클레임이 모두 있는 경우 true
+	 */
+	public boolean hasPrincipalClaims() {
+		return userId != null && role != null;
+	}
+
+	/**
+	 * 토큰의 남은 만료 시간을 반환합니다.
+	 *
+	 * @param now 기준 시각 (epoch millis)
+	 * @return 남은 시간 (millis), 만료되었거나 유효하지 않은 경우 0
+	 */
+	public long getRemainingMillis(long now) {
+		if (!isValid()) {
+			return 0L;
+		}
+		return Math.max(expiration - now, 0L);
+	}
+}
@@ -0,0 +1,183 @@
+package com.donut.swaipe.global.security.jwt;
+
+import com.donut.swaipe.global.common.InstancePool;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 액세스 토큰의 클레임을 보관하는 크기 제한 캐시입니다.
+ *
+ * <p>원본 토큰 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰의 만료 시각(exp)에 정확히
+ * 만료됩니다. 로그아웃 시 사용자 단위로 무효화할 수 있도록 subject 별 키 목록을 함께 관리합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "verifiedToken";
+	private static final InstancePool<MessageDigest> SHA_256 = InstancePool.perCore(
+			VerifiedTokenCache::newDigest);
+
+	private final boolean enabled;
+	private final Cache<String, VerifiedToken> cache;
+	private final Map<String, Set<String>> keysBySubject = new ConcurrentHashMap<>();
+
+	public VerifiedTokenCache(
+			@Value("${jwt.cache.enabled:true}") boolean enabled,
+			@Value("${jwt.cache.maximum-size:100000}") long maximumSize) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new ExpireAtTokenExpiration())
+				.removalListener(this::onRemoval)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * 캐시된 검증 결과를 반환하고, 없으면 검증 함수를 호출한 뒤 유효한 결과만 캐시에 저장합니다. 같은 토큰에
+	 * 대한 동시 미스는 한 번만 검증합니다.
+	 *
+	 * @param token    원본 JWT 토큰
+	 * @param verifier 캐시 미스 시 호출할 검증 함수
+	 * @return 검증된 토큰 클레임
+	 */
+	public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+		if (!enabled) {
+			return verifier.apply(token);
+		}
+
+		String key = digest(token);
+		VerifiedToken[] rejected = new VerifiedToken[1];
+		VerifiedToken cached = cache.get(key, k -> {
+			VerifiedToken verified = verifier.apply(token);
+			if (!verified.isValid()) {
+				rejected[0] = verified;
+				return null;
+			}
+			keysBySubject.computeIfAbsent(verified.getSubject(), s -> ConcurrentHashMap.newKeySet())
+					.add(k);
+			return verified;
+		});
+		return cached != null ? cached : rejected[0];
+	}
+
+	/**
+	 * 특정 사용자의 캐시된 토큰을 모두 무효화합니다.
+	 *
+	 * @param username 사용자 이름
+	 */
+	public void invalidateSubject(String username) {
+		Set<String> keys = keysBySubject.remove(username);
+		if (keys != null) {
+			cache.invalidateAll(keys);
+			log.debug("검증 토큰 캐시 무효화: username={}, count={}", username, keys.size());
+		}
+	}
+
+	/**
+	 * 캐시된 토큰을 모두 무효화합니다.
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+		keysBySubject.clear();
+	}
+
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	public long getEvictionCount() {
+		return cache.stats().evictionCount();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * 항목이 만료되거나 밀려나면 subject 별 키 목록에서도 제거합니다. 명시적 무효화는 목록을 먼저 지우고,
+	 * 교체는 같은 키가 남아 있으므로 목록을 건드리지 않습니다.
+	 */
+	private void onRemoval(String key, VerifiedToken value, RemovalCause cause) {
+		if (key == null || value == null || !cause.wasEvicted()) {
+			return;
+		}
+		keysBySubject.computeIfPresent(value.getSubject(), (subject, keys) -> {
+			keys.remove(key);
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	/**
+	 * 토큰의 SHA-256 다이제스트를 Base64URL 문자열로 반환합니다.
+	 */
+	private static String digest(String token) {
+		MessageDigest sha256 = SHA_256.acquire();
+		byte[] hash;
+		try {
+			hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+		} finally {
+			SHA_256.release(sha256);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 항목의 만료 시각을 토큰의 exp 클레임에 맞춥니다.
+	 */
+	private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			long remainingMillis = value.getExpiration() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+				long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.donut.swaipe.global.security.password;
+
+import com.donut.swaipe.global.exception.auth.PasswordHashingBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱을 코어 수에 맞춘 전용 플랫폼 스레드에서 실행하는 인코더입니다.
+ *
+ * <p>BCrypt는 수십~수백 ms 동안 CPU를 점유합니다. 요청 스레드에서 그대로 실행하면 로그인이 몰릴 때 해싱이
+ * 모든 코어를 차지해 다른 API까지 느려집니다. 해싱을 크기가 고정된 스레드 풀로 넘기므로 동시에 실행되는
+ * 해싱 수가 풀 크기를 넘지 않고, 나머지 코어는 일반 요청이 사용합니다.</p>
+ *
+ * <p>대기열은 크기가 제한되어 있어 가득 차면 기다리지 않고 {@link PasswordHashingBusyException}을 던집니다.
+ * 대기와 해싱을 합친 시간이 기한을 넘겨도 같은 예외로 끝나며, 아직 시작하지 않은 작업은 대기열에서
+ * 제거됩니다. 호출자는 이 예외를 503과 {@code Retry-After}로 응답합니다.</p>
+ *
+ * @author donut
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+	/**
+	 * 해싱 요청이 거절되었을 때 클라이언트에 알리는 재시도 대기 시간(초)입니다.
+	 */
+	public static final long RETRY_AFTER_SECONDS = 1;
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long deadlineNanos;
+	private final LongAdder queueFull = new LongAdder();
+	private final LongAdder deadlineExceeded = new LongAdder();
+	private volatile Timer waitTimer;
+	private volatile Timer encodeTimer;
+	private volatile Timer matchesTimer;
+
+	public OffloadingPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+			Duration deadline) {
+		this.delegate = delegate;
+		this.deadlineNanos = deadline.toNanos();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword), encodeTimer);
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * 해싱 작업을 전용 스레드 풀에 넣고 기한까지 결과를 기다립니다.
+	 *
+	 * @param task      해싱 작업
+	 * @param hashTimer 해싱 시간을 기록할 타이머 (지표가 등록되기 전에는 null)
+	 * @throws PasswordHashingBusyException 대기열이 가득 찼거나 기한을 넘긴 경우
+	 */
+	private <T> T run(Callable<T> task, Timer hashTimer) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				long startedAt = System.nanoTime();
+				record(waitTimer, startedAt - submittedAt);
+				try {
+					return task.call();
+				} finally {
+					record(hashTimer, System.nanoTime() - startedAt);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queueFull.increment();
+			throw PasswordHashingBusyException.INSTANCE;
+		}
+
+		try {
+			return future.get(deadlineNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(false);
+			executor.remove((Runnable) future);
+			deadlineExceeded.increment();
+			throw PasswordHashingBusyException.INSTANCE;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트되었습니다.", e);
+		}
+	}
+
+	private static void record(Timer timer, long nanos) {
+		if (timer != null) {
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("password_hashing.queue.depth", executor.getQueue(), BlockingQueue::size)
+				.register(registry);
+		Gauge.builder("password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+				.register(registry);
+		FunctionCounter.builder("password_hashing.rejected", queueFull, LongAdder::sum)
+				.tag("reason", "queue_full")
+				.register(registry);
+		FunctionCounter.builder("password_hashing.rejected", deadlineExceeded, LongAdder::sum)
+				.tag("reason", "deadline")
+				.register(registry);
+		waitTimer = Timer.builder("password_hashing.wait")
+				.publishPercentileHistogram()
+				.register(registry);
+		encodeTimer = Timer.builder("password_hashing.duration")
+				.tag("operation", "encode")
+				.publishPercentileHistogram()
+				.register(registry);
+		matchesTimer = Timer.builder("password_hashing.duration")
+				.tag("operation", "matches")
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private static class HashingThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
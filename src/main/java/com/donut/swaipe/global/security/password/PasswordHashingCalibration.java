@@ -0,0 +1,204 @@
+package com.donut.swaipe.global.security.password;
+
+import com.donut.swaipe.config.PasswordHashingProperties;
+import com.donut.swaipe.config.PasswordHashingProperties.Algorithm;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 이 서버의 CPU에서 해시 시간을 측정해 비밀번호 해싱 파라미터를 정합니다.
+ *
+ * <p>BCrypt는 강도가 1 오를 때마다 시간이 두 배가 되므로 낮은 강도에서 한 번 측정한 시간으로 목표에 맞는
+ * 강도를 추정하고, 그 강도를 다시 측정해 목표를 넘으면 한 단계씩 낮춥니다. Argon2id는 메모리와 병렬도를
+ * 고정하고 반복 횟수를 같은 방식으로 정합니다. 측정 결과가 하한보다 낮으면 목표를 넘더라도 하한을
+ * 사용합니다.</p>
+ *
+ * <p>강도나 반복 횟수를 설정으로 고정하면 측정하지 않습니다. CPU가 다른 노드가 섞여 있으면 노드마다 값이
+ * 달라질 수 있으므로, 운영에서는 측정된 값을 확인한 뒤 고정하는 것을 권장합니다. 해시 한 번의 시간은 해싱
+ * 스레드 수와 함께 초당 처리할 수 있는 로그인 수를 결정합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Getter
+@Component
+public class PasswordHashingCalibration implements MeterBinder {
+
+	private static final String BCRYPT_ID = "bcrypt";
+	private static final String ARGON2_ID = "argon2";
+	private static final String PROBE_PASSWORD = "calibration-probe-password";
+	private static final int BCRYPT_PROBE_STRENGTH = 8;
+	private static final int BCRYPT_MAX_STRENGTH = 31;
+	private static final int ARGON2_SALT_LENGTH = 16;
+	private static final int ARGON2_HASH_LENGTH = 32;
+	private static final int SAMPLES = 3;
+
+	private final Algorithm algorithm;
+	private final Duration target;
+	private final int bcryptStrength;
+	private final int argon2MemoryKib;
+	private final int argon2Parallelism;
+	private final int argon2Iterations;
+	private final Duration measured;
+	@Getter(AccessLevel.NONE)
+	private final LongAdder rehashed = new LongAdder();
+	@Getter(AccessLevel.NONE)
+	private final LongAdder rehashSkipped = new LongAdder();
+
+	public PasswordHashingCalibration(PasswordHashingProperties properties) {
+		PasswordHashingProperties.Bcrypt bcrypt = properties.getBcrypt();
+		PasswordHashingProperties.Argon2 argon2 = properties.getArgon2();
+		this.algorithm = properties.getAlgorithm();
+		this.target = properties.getTarget();
+		this.argon2MemoryKib = argon2.getMemoryKib();
+		this.argon2Parallelism = argon2.getParallelism();
+
+		long targetNanos = target.toNanos();
+		if (algorithm == Algorithm.BCRYPT) {
+			this.bcryptStrength = bcrypt.getStrength() > 0
+					? bcrypt.getStrength()
+					: calibrate(BCRYPT_PROBE_STRENGTH, bcrypt.getMinStrength(), BCRYPT_MAX_STRENGTH,
+							targetNanos, true, this::bcrypt);
+			this.argon2Iterations = Math.max(argon2.getIterations(), argon2.getMinIterations());
+			this.measured = Duration.ofNanos(measure(bcrypt(bcryptStrength)));
+		} else {
+			this.argon2Iterations = argon2.getIterations() > 0
+					? argon2.getIterations()
+					: calibrate(1, argon2.getMinIterations(), Integer.MAX_VALUE, targetNanos, false,
+							this::argon2);
+			this.bcryptStrength = Math.max(bcrypt.getStrength(), bcrypt.getMinStrength());
+			this.measured = Duration.ofNanos(measure(argon2(argon2Iterations)));
+		}
+
+		if (measured.compareTo(target) > 0) {
+			log.warn("비밀번호 해시 시간이 목표를 넘음: algorithm={}, measured={}ms, target={}ms",
+					algorithm, measured.toMillis(), target.toMillis());
+		}
+		log.info("비밀번호 해싱 파라미터: algorithm={}, bcryptStrength={}, argon2Iterations={}, "
+						+ "argon2MemoryKib={}, measured={}ms", algorithm, bcryptStrength, argon2Iterations,
+				argon2MemoryKib, measured.toMillis());
+	}
+
+	/**
+	 * 새 해시는 설정된 알고리즘으로 만들고, 두 알고리즘의 기존 해시를 모두 검증하는 인코더를 만듭니다.
+	 * 식별자 접두사가 없는 기존 BCrypt 해시도 검증되며, 로그인에 성공하면 현재 파라미터로 다시 저장됩니다.
+	 *
+	 * @return 위임 인코더
+	 */
+	public PasswordEncoder createEncoder() {
+		BCryptPasswordEncoder bcrypt = bcrypt(bcryptStrength);
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+				algorithm == Algorithm.BCRYPT ? BCRYPT_ID : ARGON2_ID,
+				Map.of(BCRYPT_ID, bcrypt, ARGON2_ID, argon2(argon2Iterations)));
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return encoder;
+	}
+
+	/**
+	 * 로그인 중 오래된 파라미터의 해시를 다시 저장한 횟수를 기록합니다.
+	 */
+	public void recordRehash() {
+		rehashed.increment();
+	}
+
+	/**
+	 * 해싱 스레드 풀 포화로 로그인 중 해시를 다시 저장하지 못한 횟수를 기록합니다.
+	 */
+	public void recordRehashSkipped() {
+		rehashSkipped.increment();
+	}
+
+	/**
+	 * 파라미터를 한 단계씩 바꾸며 목표 시간 안에 드는 가장 큰 값을 찾습니다. 비용이 파라미터에 지수적으로
+	 * 늘어나면 로그로, 선형으로 늘어나면 비율로 시작값을 추정합니다.
+	 */
+	private int calibrate(int probe, int min, int max, long targetNanos, boolean exponential,
+			IntFunction<PasswordEncoder> encoderFactory) {
+		double ratio = (double) targetNanos / measure(encoderFactory.apply(probe));
+		int estimate = exponential
+				? probe + (int) Math.floor(Math.log(ratio) / Math.log(2))
+				: (int) Math.floor(probe * ratio);
+		int value = Math.min(Math.max(estimate, min), max);
+		while (value > min && measure(encoderFactory.apply(value)) > targetNanos) {
+			value--;
+		}
+		return value;
+	}
+
+	/**
+	 * 한 번 예열한 뒤 측정한 해시 시간의 중앙값을 반환합니다.
+	 */
+	private static long measure(PasswordEncoder encoder) {
+		encoder.encode(PROBE_PASSWORD);
+		long[] samples = new long[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			long startedAt = System.nanoTime();
+			encoder.encode(PROBE_PASSWORD);
+			samples[i] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(samples);
+		return samples[SAMPLES / 2];
+	}
+
+	private BCryptPasswordEncoder bcrypt(int strength) {
+		return new BCryptPasswordEncoder(strength);
+	}
+
+	private Argon2PasswordEncoder argon2(int iterations) {
+		return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, argon2Parallelism,
+				argon2MemoryKib, iterations);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		String activeId = algorithm == Algorithm.BCRYPT ? BCRYPT_ID : ARGON2_ID;
+		Gauge.builder("password_hashing.cost", () -> bcryptStrength)
+				.tag("algorithm", BCRYPT_ID)
+				.tag("parameter", "strength")
+				.register(registry);
+		Gauge.builder("password_hashing.cost", () -> argon2Iterations)
+				.tag("algorithm", ARGON2_ID)
+				.tag("parameter", "iterations")
+				.register(registry);
+		Gauge.builder("password_hashing.cost", () -> argon2MemoryKib)
+				.tag("algorithm", ARGON2_ID)
+				.tag("parameter", "memory_kib")
+				.register(registry);
+		Gauge.builder("password_hashing.cost", () -> argon2Parallelism)
+				.tag("algorithm", ARGON2_ID)
+				.tag("parameter", "parallelism")
+				.register(registry);
+		TimeGauge.builder("password_hashing.calibrated", measured, TimeUnit.NANOSECONDS,
+						Duration::toNanos)
+				.tag("algorithm", activeId)
+				.register(registry);
+		TimeGauge.builder("password_hashing.target", target, TimeUnit.NANOSECONDS,
+						Duration::toNanos)
+				.register(registry);
+		FunctionCounter.builder("password_hashing.rehashed", rehashed, LongAdder::sum)
+				.tag("algorithm", activeId)
+				.register(registry);
+		FunctionCounter.builder("password_hashing.rehash_skipped", rehashSkipped, LongAdder::sum)
+				.tag("algorithm", activeId)
+				.register(registry);
+	}
+}
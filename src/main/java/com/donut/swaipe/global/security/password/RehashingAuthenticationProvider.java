@@ -0,0 +1,45 @@
+package com.donut.swaipe.global.security.password;
+
+import com.donut.swaipe.global.exception.auth.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 오래된 해시의 재저장이 해싱 스레드 풀 포화로 실패해도 로그인을 성공시키는 인증 제공자입니다.
+ *
+ * <p>비밀번호 검증이 끝난 뒤의 재해싱은 부가 작업입니다. 대기열이 가득 찼거나 기한을 넘겨
+ * {@link PasswordHashingBusyException}이 나면 이번에는 기존 해시를 유지하고 인증 결과만 반환하며, 다음
+ * 로그인에서 다시 시도합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+	private final PasswordHashingCalibration passwordHashingCalibration;
+
+	public RehashingAuthenticationProvider(PasswordHashingCalibration passwordHashingCalibration) {
+		this.passwordHashingCalibration = passwordHashingCalibration;
+	}
+
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal,
+			Authentication authentication, UserDetails user) {
+		try {
+			return super.createSuccessAuthentication(principal, authentication, user);
+		} catch (PasswordHashingBusyException e) {
+			passwordHashingCalibration.recordRehashSkipped();
+			log.debug("해싱 스레드 풀이 포화되어 비밀번호 해시 갱신을 미룹니다: username={}",
+					user.getUsername());
+			UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken
+					.authenticated(principal, authentication.getCredentials(), user.getAuthorities());
+			result.setDetails(authentication.getDetails());
+			return result;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.donut.swaipe.global.security.ratelimit;
+
+import com.donut.swaipe.config.LoginRateLimitProperties;
+import com.donut.swaipe.global.common.ErrorResponses;
+import com.donut.swaipe.global.common.MessageCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 횟수를 클라이언트 IP와 사용자 이름별로 제한합니다.
+ *
+ * <p>윈도는 Redis의 정렬 집합에 시도 시각을 기록하는 Lua 스크립트로 관리하므로 여러 노드가 같은 제한을
+ * 공유하며, 기록과 판정이 원자적으로 수행됩니다. 거절 응답은 {@link ErrorResponses}가 미리 직렬화해 둔
+ * 본문을 사용하므로 거절 경로에서 JSON 직렬화가 일어나지 않습니다.</p>
+ *
+ * <p>Redis에 접근할 수 없으면 로그인 자체를 막지 않도록 요청을 허용하고 {@code result=error}로
+ * 집계합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+	private static final String KEY_PREFIX = "RL:login:";
+	private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = RedisScript.of(
+			new ClassPathResource("redis/sliding-window-rate-limit.lua"), Long.class);
+
+	public enum Scope {
+		IP,
+		USERNAME
+	}
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final LoginRateLimitProperties properties;
+	private final ErrorResponses errorResponses;
+	private volatile Map<Scope, Counter[]> counters = Map.of();
+
+	public LoginRateLimiter(RedisTemplate<String, String> redisTemplate,
+			LoginRateLimitProperties properties, ErrorResponses errorResponses) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.errorResponses = errorResponses;
+	}
+
+	/**
+	 * 로그인 시도를 기록하고 허용 여부를 판정합니다.
+	 *
+	 * @param scope      제한 기준
+	 * @param identifier 클라이언트 IP 또는 사용자 이름
+	 * @return 허용된 경우 0, 거절된 경우 다시 시도할 수 있을 때까지 남은 시간(ms)
+	 */
+	public long tryAcquire(Scope scope, String identifier) {
+		if (!properties.isEnabled() || identifier == null || identifier.isEmpty()) {
+			return 0;
+		}
+
+		LoginRateLimitProperties.Window window = scope == Scope.IP
+				? properties.getIp() : properties.getUsername();
+		String key = KEY_PREFIX + scope.name().toLowerCase() + ":" + identifier;
+		String member = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+		try {
+			Long retryAfter = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(key),
+					String.valueOf(window.getWindow().toMillis()),
+					String.valueOf(window.getLimit()), member);
+			long retryAfterMillis = retryAfter != null ? retryAfter : 0;
+			count(scope, retryAfterMillis == 0 ? Result.ALLOWED : Result.REJECTED);
+			if (retryAfterMillis > 0) {
+				log.warn("로그인 요청 제한: scope={}, identifier={}", scope, identifier);
+			}
+			return retryAfterMillis;
+		} catch (Exception e) {
+			count(scope, Result.ERROR);
+			log.error("로그인 요청 제한 확인 실패, 요청을 허용합니다: scope={}, error={}", scope,
+					e.getMessage());
+			return 0;
+		}
+	}
+
+	/**
+	 * 미리 직렬화된 429 응답을 전송합니다.
+	 *
+	 * @param res              HTTP 응답
+	 * @param retryAfterMillis 다시 시도할 수 있을 때까지 남은 시간(ms)
+	 * @throws IOException 입출력 처리 중 오류 발생 시
+	 */
+	public void reject(HttpServletResponse res, long retryAfterMillis) throws IOException {
+		res.setHeader("Retry-After",
+				String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999))));
+		errorResponses.write(res, HttpStatus.TOO_MANY_REQUESTS, MessageCode.TOO_MANY_LOGIN_ATTEMPTS);
+	}
+
+	private void count(Scope scope, Result result) {
+		Counter[] scoped = counters.get(scope);
+		if (scoped != null) {
+			scoped[result.ordinal()].increment();
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Map<Scope, Counter[]> bound = new EnumMap<>(Scope.class);
+		for (Scope scope : Scope.values()) {
+			Counter[] scoped = new Counter[Result.values().length];
+			for (Result result : Result.values()) {
+				scoped[result.ordinal()] = Counter.builder("login.rate_limit.requests")
+						.tag("scope", scope.name().toLowerCase())
+						.tag("result", result.name().toLowerCase())
+						.register(registry);
+			}
+			bound.put(scope, scoped);
+		}
+		counters = bound;
+	}
+
+	private enum Result {
+		ALLOWED,
+		REJECTED,
+		ERROR
+	}
+}
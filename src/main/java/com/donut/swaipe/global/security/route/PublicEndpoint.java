@@ -0,0 +1,24 @@
+package com.donut.swaipe.global.security.route;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증 없이 호출할 수 있는 엔드포인트를 표시합니다.
+ *
+ * <p>컨트롤러 메서드에 붙이면 해당 매핑의 경로와 HTTP 메서드가, 컨트롤러 클래스에 붙이면 클래스의 모든
+ * 매핑이 {@link RoutePolicyRegistry}에 공개 경로로 등록됩니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface PublicEndpoint {
+
+}
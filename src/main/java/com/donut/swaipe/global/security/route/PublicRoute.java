@@ -0,0 +1,46 @@
+package com.donut.swaipe.global.security.route;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * 공개 경로 선언 하나를 나타냅니다.
+ *
+ * <p>패턴은 {@code /}로 구분된 세그먼트로 이루어지며, {@code {name}}이나 {@code *}는 비어 있지 않은
+ * 세그먼트 하나와, 마지막의 {@code /**}는 그 아래의 모든 경로(자기 자신 포함)와 일치합니다. HTTP 메서드를
+ * 지정하지 않으면 모든 메서드를 허용합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+public class PublicRoute {
+
+	private final String pattern;
+	private final Set<RequestMethod> methods;
+
+	private PublicRoute(String pattern, Set<RequestMethod> methods) {
+		if (!pattern.startsWith("/")) {
+			throw new IllegalArgumentException("경로 패턴은 /로 시작해야 합니다: " + pattern);
+		}
+		this.pattern = pattern;
+		this.methods = methods;
+	}
+
+	public static PublicRoute of(String pattern, RequestMethod... methods) {
+		return of(pattern, methods.length == 0
+				? EnumSet.noneOf(RequestMethod.class) : EnumSet.of(methods[0], methods));
+	}
+
+	public static PublicRoute of(String pattern, Set<RequestMethod> methods) {
+		return new PublicRoute(pattern, Set.copyOf(methods));
+	}
+
+	@Override
+	public String toString() {
+		return (methods.isEmpty() ? "*" : methods.toString()) + " " + pattern;
+	}
+}
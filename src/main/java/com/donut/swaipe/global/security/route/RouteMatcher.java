@@ -0,0 +1,190 @@
+package com.donut.swaipe.global.security.route;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * 공개 경로 선언을 세그먼트 단위 트라이로 컴파일한 불변 매처입니다.
+ *
+ * <p>각 노드는 경로가 그 노드에서 끝날 때와 그 노드 아래 전체를 허용할 때의 HTTP 메서드를 비트 마스크로
+ * 가지고 있습니다. 판별은 요청 경로 문자열을 인덱스로만 훑으므로 부분 문자열이나 배열을 만들지 않습니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class RouteMatcher {
+
+	private static final RequestMethod[] METHODS = RequestMethod.values();
+	private static final int ALL_METHODS = (1 << METHODS.length) - 1;
+	private static final String PREFIX_WILDCARD = "**";
+
+	private final Node root;
+	private final int size;
+
+	private RouteMatcher(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * 공개 경로 선언을 매처로 컴파일합니다.
+	 *
+	 * @param routes 공개 경로 선언
+	 * @return 컴파일된 매처
+	 */
+	public static RouteMatcher compile(Collection<PublicRoute> routes) {
+		Builder root = new Builder();
+		for (PublicRoute route : routes) {
+			root.add(route);
+		}
+		return new RouteMatcher(root.build(), routes.size());
+	}
+
+	/**
+	 * 요청이 공개 경로와 일치하는지 판별합니다.
+	 *
+	 * @param method HTTP 메서드 이름
+	 * @param path   요청 경로
+	 * @param offset 경로에서 판별을 시작할 위치(컨텍스트 경로 길이)
+	 * @return 공개 경로인 경우 true
+	 */
+	public boolean matches(String method, String path, int offset) {
+		int bit = methodBit(method);
+		if (bit == 0 || path == null || path.length() <= offset || path.charAt(offset) != '/') {
+			return false;
+		}
+		return matches(root, path, offset + 1, bit);
+	}
+
+	public boolean matches(String method, String path) {
+		return matches(method, path, 0);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@code start}부터 시작하는 세그먼트를 노드의 자식과 비교합니다. {@code start}가 경로 길이를 넘으면
+	 * 모든 세그먼트를 소비한 것입니다.
+	 */
+	private static boolean matches(Node node, String path, int start, int bit) {
+		if ((node.prefixMethods & bit) != 0) {
+			return true;
+		}
+		int length = path.length();
+		if (start > length) {
+			return (node.exactMethods & bit) != 0;
+		}
+
+		int end = path.indexOf('/', start);
+		if (end < 0) {
+			end = length;
+		}
+		int segmentLength = end - start;
+
+		String[] segments = node.segments;
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if (segment.length() == segmentLength
+					&& path.regionMatches(start, segment, 0, segmentLength)
+					&& matches(node.children[i], path, end + 1, bit)) {
+				return true;
+			}
+		}
+		return node.variable != null && segmentLength > 0
+				&& matches(node.variable, path, end + 1, bit);
+	}
+
+	private static int methodBit(String method) {
+		for (RequestMethod candidate : METHODS) {
+			if (candidate.name().equals(method)) {
+				return 1 << candidate.ordinal();
+			}
+		}
+		return 0;
+	}
+
+	private static int methodMask(PublicRoute route) {
+		if (route.getMethods().isEmpty()) {
+			return ALL_METHODS;
+		}
+		int mask = 0;
+		for (RequestMethod method : route.getMethods()) {
+			mask |= 1 << method.ordinal();
+		}
+		return mask;
+	}
+
+	private static boolean isVariable(String segment) {
+		return "*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"));
+	}
+
+	private static final class Node {
+
+		private final String[] segments;
+		private final Node[] children;
+		private final Node variable;
+		private final int exactMethods;
+		private final int prefixMethods;
+
+		private Node(String[] segments, Node[] children, Node variable, int exactMethods,
+				int prefixMethods) {
+			this.segments = segments;
+			this.children = children;
+			this.variable = variable;
+			this.exactMethods = exactMethods;
+			this.prefixMethods = prefixMethods;
+		}
+	}
+
+	private static final class Builder {
+
+		private final Map<String, Builder> children = new LinkedHashMap<>();
+		private Builder variable;
+		private int exactMethods;
+		private int prefixMethods;
+
+		private void add(PublicRoute route) {
+			String[] segments = route.getPattern().substring(1).split("/", -1);
+			int mask = methodMask(route);
+			Builder node = this;
+			for (int i = 0; i < segments.length; i++) {
+				String segment = segments[i];
+				if (PREFIX_WILDCARD.equals(segment)) {
+					if (i != segments.length - 1) {
+						throw new IllegalArgumentException("**는 패턴의 마지막에만 올 수 있습니다: " + route);
+					}
+					node.prefixMethods |= mask;
+					return;
+				}
+				node = isVariable(segment)
+						? node.variable()
+						: node.children.computeIfAbsent(segment, key -> new Builder());
+			}
+			node.exactMethods |= mask;
+		}
+
+		private Builder variable() {
+			if (variable == null) {
+				variable = new Builder();
+			}
+			return variable;
+		}
+
+		private Node build() {
+			List<String> segments = new ArrayList<>(children.keySet());
+			Node[] built = new Node[segments.size()];
+			for (int i = 0; i < built.length; i++) {
+				built[i] = children.get(segments.get(i)).build();
+			}
+			return new Node(segments.toArray(String[]::new), built,
+					variable != null ? variable.build() : null, exactMethods, prefixMethods);
+		}
+	}
+}
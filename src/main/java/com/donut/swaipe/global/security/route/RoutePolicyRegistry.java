@@ -0,0 +1,85 @@
+package com.donut.swaipe.global.security.route;
+
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 인증 없이 접근할 수 있는 경로를 한 곳에서 관리하는 레지스트리입니다.
+ *
+ * <p>컨트롤러가 없는 경로는 {@link #DECLARED_ROUTES}에 선언하고, 컨트롤러 경로는
+ * {@link PublicEndpoint}로 표시합니다. 시작 시 두 출처를 모아 {@link RouteMatcher}로 컴파일하며,
+ * 보안 설정의 인가 규칙과 JWT 인가 필터가 같은 매처를 사용합니다.</p>
+ *
+ * @author donut
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class RoutePolicyRegistry implements RequestMatcher {
+
+	public static final String LOGIN_PATH = "/users/login";
+
+	/**
+	 * 컨트롤러 매핑이 없는 공개 경로입니다. 로그인은 인증 필터가 직접 처리합니다.
+	 */
+	public static final List<PublicRoute> DECLARED_ROUTES = List.of(
+			PublicRoute.of(LOGIN_PATH, POST),
+			PublicRoute.of("/swagger-ui/**"),
+			PublicRoute.of("/swagger-ui.html"),
+			PublicRoute.of("/swagger-resources/**"),
+			PublicRoute.of("/v3/api-docs/**"),
+			PublicRoute.of("/v3/api-docs.yaml"),
+			PublicRoute.of("/webjars/**")
+	);
+
+	private final List<PublicRoute> routes;
+	private final RouteMatcher matcher;
+
+	public RoutePolicyRegistry(
+			@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+		List<PublicRoute> collected = new ArrayList<>(DECLARED_ROUTES);
+		for (Map.Entry<RequestMappingInfo, HandlerMethod> entry
+				: handlerMapping.getHandlerMethods().entrySet()) {
+			HandlerMethod handlerMethod = entry.getValue();
+			if (!handlerMethod.hasMethodAnnotation(PublicEndpoint.class)
+					&& !handlerMethod.getBeanType().isAnnotationPresent(PublicEndpoint.class)) {
+				continue;
+			}
+			RequestMappingInfo info = entry.getKey();
+			for (String pattern : info.getPatternValues()) {
+				collected.add(PublicRoute.of(pattern, info.getMethodsCondition().getMethods()));
+			}
+		}
+		this.routes = List.copyOf(collected);
+		this.matcher = RouteMatcher.compile(routes);
+		log.info("공개 경로 {}개 등록: {}", routes.size(), routes);
+	}
+
+	/**
+	 * 요청이 공개 경로인지 확인합니다. 컨텍스트 경로는 제외하고 비교합니다.
+	 *
+	 * @param request HTTP 요청
+	 * @return 공개 경로인 경우 true
+	 */
+	@Override
+	public boolean matches(HttpServletRequest request) {
+		return matcher.matches(request.getMethod(), request.getRequestURI(),
+				request.getContextPath().length());
+	}
+
+	public List<PublicRoute> getRoutes() {
+		return routes;
+	}
+}
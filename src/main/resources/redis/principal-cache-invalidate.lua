@@ -0,0 +1,8 @@
+-- 사용자 정보를 지우고 무효화 세대를 올려, 무효화 전에 시작된 적재가 이전 값을 저장하지 못하게 합니다.
+-- KEYS[1]: UP:<username>, KEYS[2]: UPG:<username> (무효화 세대)
+-- ARGV[1]: 세대 보관 시간(ms)
+-- 반환값: 새 세대
+redis.call('DEL', KEYS[1])
+local generation = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+return generation
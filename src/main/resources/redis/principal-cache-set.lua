@@ -0,0 +1,10 @@
+-- 적재를 시작할 때 읽은 세대가 그대로일 때만 사용자 정보를 저장합니다.
+-- KEYS[1]: UP:<username>, KEYS[2]: UPG:<username> (무효화 세대)
+-- ARGV[1]: 저장할 값, ARGV[2]: 적재 시작 시 읽은 세대 (없었으면 빈 문자열), ARGV[3]: 보관 시간(ms)
+-- 반환값: 저장하면 1, 적재 중에 무효화되었으면 0
+local generation = redis.call('GET', KEYS[2]) or ''
+if generation ~= ARGV[2] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+return 1
@@ -0,0 +1,27 @@
+-- 같은 액세스 토큰으로 들어온 재발급을 한 요청만 수행하도록 선점합니다.
+-- 제시된 액세스 토큰이 사용자의 현재 토큰 버전보다 낮거나 전체 폐기 시각 이전에 발급되었으면 거절합니다.
+-- 그 토큰의 재발급 결과가 이미 있으면 리프레시 토큰이 교체된 뒤라도 그 결과를 돌려줍니다.
+-- KEYS[1]: RT:<username>, KEYS[2]: RI:<username>:<제시된 액세스 토큰 다이제스트>
+-- KEYS[3]: TV (사용자별 토큰 버전 해시), KEYS[4]: TV:all (전체 폐기 시각)
+-- ARGV[1]: 기존 리프레시 토큰, ARGV[2]: 진행 중 표시, ARGV[3]: 선점 유지 시간(ms)
+-- ARGV[4]: 사용자 이름, ARGV[5]: 제시된 액세스 토큰의 버전
+-- ARGV[6]: 제시된 액세스 토큰의 발급 시각 (epoch seconds)
+-- 반환값:
+--   ARGV[2]가 아닌 값 -> 이미 재발급된 액세스 토큰
+--   ARGV[2]          -> 다른 요청이 재발급 중
+--   '~claimed'       -> 이 요청이 재발급을 맡음
+--   nil              -> 폐기된 토큰이거나, 이미 다른 세대로 교체되었거나 삭제됨
+local version = tonumber(redis.call('HGET', KEYS[3], ARGV[4]) or '0')
+local revokedBefore = tonumber(redis.call('GET', KEYS[4]) or '0')
+if tonumber(ARGV[5]) < version or tonumber(ARGV[6]) < revokedBefore then
+    return false
+end
+local result = redis.call('GET', KEYS[2])
+if result then
+    return result
+end
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return false
+end
+redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+return '~claimed'
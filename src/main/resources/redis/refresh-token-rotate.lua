@@ -0,0 +1,13 @@
+-- 저장된 리프레시 토큰이 기대한 값과 같을 때만 새 토큰으로 교체합니다. (compare-and-swap)
+-- KEYS[1]: RT:<username>, KEYS[2]: (선택) RI:<username>:<재발급을 요청한 액세스 토큰 다이제스트>
+-- ARGV[1]: 기존 리프레시 토큰, ARGV[2]: 새 리프레시 토큰, ARGV[3]: 만료 시간(ms)
+-- ARGV[4]: (선택) 함께 기다리는 요청에 돌려줄 액세스 토큰, ARGV[5]: (선택) 유예 시간(ms)
+-- 반환값: 교체 성공 시 1, 저장된 값이 다르거나 없으면 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    if #KEYS > 1 then
+        redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5])
+    end
+    return 1
+end
+return 0
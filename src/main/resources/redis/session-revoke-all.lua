@@ -0,0 +1,8 @@
+-- 지금까지 발급된 모든 토큰을 폐기하도록 폐기 시각을 기록하고 모든 노드에 알립니다.
+-- KEYS[1]: TV:all, ARGV[1]: 변경 알림 채널
+-- 토큰의 발급 시각은 초 단위이므로 현재 초에 발급된 토큰까지 폐기되도록 다음 초를 기록합니다.
+-- 반환값: 기록한 폐기 시각 (epoch seconds)
+local seconds = tonumber(redis.call('TIME')[1]) + 1
+redis.call('SET', KEYS[1], seconds)
+redis.call('PUBLISH', ARGV[1], '*:' .. seconds)
+return seconds
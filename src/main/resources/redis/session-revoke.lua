@@ -0,0 +1,12 @@
+-- 사용자의 토큰 버전을 올리고 리프레시 토큰을 삭제한 뒤 모든 노드에 알립니다.
+-- KEYS[1]: TV (사용자별 토큰 버전 해시), KEYS[2]: RT:<username>, KEYS[3]: TV:at (버전을 올린 시각)
+-- ARGV[1]: 사용자 이름, ARGV[2]: 변경 알림 채널, ARGV[3]: 버전을 올린 시각을 보관할 시간 (ms)
+-- 반환값: { 새 토큰 버전, 삭제된 리프레시 토큰 수 }
+local version = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+local deleted = redis.call('UNLINK', KEYS[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+redis.call('ZADD', KEYS[3], now, ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now - tonumber(ARGV[3]))
+redis.call('PUBLISH', ARGV[2], version .. ':' .. ARGV[1])
+return { version, deleted }
@@ -0,0 +1,17 @@
+-- 슬라이딩 윈도 요청 제한
+-- KEYS[1]: 윈도 키, ARGV[1]: 윈도 길이(ms), ARGV[2]: 허용 횟수, ARGV[3]: 요청 식별자
+-- 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ms)을 반환합니다.
+-- 여러 노드가 같은 시계를 쓰도록 Redis 서버 시간을 기준으로 합니다.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+    redis.call('ZADD', KEYS[1], now, ARGV[3])
+    redis.call('PEXPIRE', KEYS[1], window)
+    return 0
+end
+
+local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+return math.max(1, tonumber(oldest[2]) + window - now)